@@ -0,0 +1,107 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// 저장해 둔 페이지(og-pages)로 head 만 읽는 방식과 페이지 전체를 Jsoup 으로 파싱하던 방식 비교
+// 지연 시간은 평균 시간, 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op), 읽은 바이트 수는 준비 단계에서 출력
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlHeadFetcherBenchmark {
+
+    private static final String BASE_URI = "https://example.com/";
+
+    // 페이지별 응답 헤더의 Content-Type (charset 이 없으면 BOM, meta 태그로 확인)
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+            "news.html", "text/html; charset=utf-8",
+            "blog.html", "text/html",
+            "shop-euckr.html", "text/html"
+    );
+
+    @Param({"news.html", "blog.html", "shop-euckr.html"})
+    private String page;
+
+    private byte[] bytes;
+    private String contentType;
+
+    @Setup
+    public void setUp() throws IOException {
+        try (InputStream in = HtmlHeadFetcherBenchmark.class.getResourceAsStream("/og-pages/" + page)) {
+            bytes = Objects.requireNonNull(in, page).readAllBytes();
+        }
+        contentType = CONTENT_TYPES.get(page);
+
+        CountingInputStream headIn = new CountingInputStream(bytes);
+        Elements headTags = ogTags(HtmlHeadFetcher.parseHead(headIn, contentType, BASE_URI));
+        CountingInputStream fullIn = new CountingInputStream(bytes);
+        Elements fullTags = ogTags(Jsoup.parse(fullIn, null, BASE_URI));
+
+        // 두 방식이 같은 OG 태그를 찾는지 확인
+        if (!headTags.outerHtml().equals(fullTags.outerHtml())) {
+            throw new IllegalStateException("OG 태그가 다릅니다. page=" + page);
+        }
+        System.out.printf("%n%s: 전체 %dB, head 만 %dB 읽음, Jsoup 전체 파싱 %dB 읽음%n",
+                page, bytes.length, headIn.count, fullIn.count);
+    }
+
+    // </head> 까지만 읽어 파싱
+    @Benchmark
+    public Elements headOnly() throws IOException {
+        return ogTags(HtmlHeadFetcher.parseHead(new ByteArrayInputStream(bytes), contentType, BASE_URI));
+    }
+
+    // 페이지 전체를 읽어 파싱 (이전 Jsoup.connect().get() 과 같은 파싱)
+    @Benchmark
+    public Elements fullPageJsoup() throws IOException {
+        return ogTags(Jsoup.parse(new ByteArrayInputStream(bytes), null, BASE_URI));
+    }
+
+    private static Elements ogTags(Document doc) {
+        return doc.select("meta[property^=og:]");
+    }
+
+    // 실제로 읽은 바이트 수 확인용
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(byte[] bytes) {
+            super(new ByteArrayInputStream(bytes));
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.sonkim.bookmarking.common.util;
+
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 요청 하나의 토큰 검증 비용 비교 (동시 요청 4개, 사용자 1,000명의 토큰을 무작위로 사용)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JwtVerificationBenchmark {
+
+    private static final int TOKEN_COUNT = 1_000;
+
+    private JWTUtil jwtUtil;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JWTUtil("benchmark-secret-key-benchmark-secret-key", 3_600_000L, 604_800_000L);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = jwtUtil.createAccessToken((long) i, "user" + i + "@test.com").getToken();
+        }
+    }
+
+    // 필터가 카테고리, userId, username 을 각각 검증하며 꺼내던 방식
+    @Benchmark
+    public Object verifyPerClaim() {
+        String token = randomToken();
+        return new Object[]{
+                jwtUtil.getCategoryFromJWT(token),
+                jwtUtil.getUserId(token),
+                jwtUtil.getUsernameFromJWT(token)
+        };
+    }
+
+    // 캐시 없이 한 번만 검증
+    @Benchmark
+    public Object verifyOnce() {
+        return jwtUtil.getCategoryFromJWT(randomToken());
+    }
+
+    // 검증된 클레임 캐시 사용
+    @Benchmark
+    public Claims verifiedClaimsCache() {
+        return jwtUtil.getVerifiedClaims(randomToken());
+    }
+
+    private String randomToken() {
+        return tokens[ThreadLocalRandom.current().nextInt(TOKEN_COUNT)];
+    }
+}
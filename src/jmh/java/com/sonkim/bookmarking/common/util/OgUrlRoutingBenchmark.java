@@ -0,0 +1,115 @@
+package com.sonkim.bookmarking.common.util;
+
+import com.sonkim.bookmarking.common.util.OGStrategy.OgExtractorStrategy;
+import com.sonkim.bookmarking.common.util.OGStrategy.OgStrategyRouter;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// URL 분류 비용 비교
+// 전략 선택: 호스트 접미사 표 조회 vs 이전 방식(전략 순서대로 url.contains)
+// 유튜브 동영상 ID: 미리 컴파일한 정규식 vs 이전 방식(호출마다 컴파일)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OgUrlRoutingBenchmark {
+
+    // 전략별 URL 과 어느 전략에도 해당하지 않는 URL 을 섞은 목록
+    private static final String[] URLS = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&t=42s",
+            "https://youtu.be/dQw4w9WgXcQ?si=abc",
+            "https://m.blog.naver.com/someone/223000000000",
+            "https://map.naver.com/p/entry/place/1234567",
+            "https://x.com/someone/status/1790000000000000000",
+            "https://www.coupang.com/vp/products/123456?itemId=1",
+            "https://www.instagram.com/p/C1a2b3c4d5e/",
+            "https://news.naver.com/main/read.naver?oid=001&aid=0000000001",
+            "https://www.nytimes.com/2024/01/01/technology/article.html",
+            "https://github.com/spring-projects/spring-boot/issues/1",
+            "https://box.com/s/abcdef",
+            "https://velog.io/@someone/post-title"
+    };
+
+    private static final String[] YOUTUBE_URLS = {
+            "https://www.youtube.com/watch?v=dQw4w9WgXcQ&t=42s",
+            "https://youtu.be/dQw4w9WgXcQ?si=abc",
+            "https://www.youtube.com/shorts/abcdEFGhijk",
+            "https://www.youtube.com/embed/dQw4w9WgXcQ",
+            "https://m.youtube.com/watch?feature=player_embedded&v=dQw4w9WgXcQ"
+    };
+
+    private List<OgExtractorStrategy> strategies;
+    private OgStrategyRouter router;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // 실제 전략과 같은 호스트, 같은 순서(@Order)
+        strategies = List.of(
+                new StubStrategy(Set.of("blog.naver.com")),
+                new StubStrategy(Set.of("youtube.com", "youtu.be")),
+                new StubStrategy(Set.of("instagram.com")),
+                new StubStrategy(Set.of("coupang.com")),
+                new StubStrategy(Set.of("map.naver.com")),
+                new StubStrategy(Set.of("twitter.com", "x.com")),
+                new StubStrategy(Set.of()));
+        router = new OgStrategyRouter(strategies);
+    }
+
+    @Benchmark
+    public OgExtractorStrategy routeBySuffixTable() {
+        return router.route(next(URLS));
+    }
+
+    // 이전 방식: 전략 순서대로 URL 에 호스트 문자열이 들어 있는지 확인
+    @Benchmark
+    public OgExtractorStrategy routeByContainsScan() {
+        String url = next(URLS);
+        for (OgExtractorStrategy strategy : strategies) {
+            if (strategy.supportedHosts().isEmpty()) {
+                return strategy;
+            }
+            for (String host : strategy.supportedHosts()) {
+                if (url.contains(host)) {
+                    return strategy;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public String videoIdPrecompiled() {
+        return YoutubeUrlUtil.extractVideoId(next(YOUTUBE_URLS));
+    }
+
+    // 이전 방식: 호출할 때마다 같은 정규식을 컴파일
+    @Benchmark
+    public String videoIdCompiledPerCall() {
+        Matcher matcher = Pattern.compile(YoutubeUrlUtil.VIDEO_ID_PATTERN.pattern()).matcher(next(YOUTUBE_URLS));
+        return matcher.find() ? matcher.group() : null;
+    }
+
+    private String next(String[] urls) {
+        index = index + 1 == Integer.MAX_VALUE ? 0 : index + 1;
+        return urls[index % urls.length];
+    }
+
+    private record StubStrategy(Set<String> supportedHosts) implements OgExtractorStrategy {
+        @Override
+        public BookmarkOGDto extract(String url) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
@@ -20,4 +21,44 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 목록 조회 시 좋아요 정보(메모리, Redis)를 태그 조회와 동시에 가져오기 위한 스레드 풀
+    // 가득 차면 요청 스레드에서 직접 실행
+    @Bean(name = "enrichmentExecutor")
+    public Executor enrichmentExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("Enrichment-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    // OpenGraph 추출 전용 스레드 풀 (Selenium 추출이 오래 걸려도 요청 스레드를 점유하지 않도록 분리)
+    // 대기열이 가득 차면 작업 등록을 거절
+    @Bean(name = "ogExtractExecutor")
+    public Executor ogExtractExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("OgExtract-");
+        executor.initialize();
+        return executor;
+    }
+
+    // YouTube Data API 묶음 호출 전용 스레드 풀 (묶음 스케줄러 스레드가 HTTP 호출로 막히지 않도록 분리)
+    // 대기열이 가득 차면 묶음 요청을 실패 처리하고 기본 썸네일로 대체
+    @Bean(name = "youtubeFetchExecutor")
+    public Executor youtubeFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(50);
+        executor.setThreadNamePrefix("YoutubeFetch-");
+        executor.initialize();
+        return executor;
+    }
 }
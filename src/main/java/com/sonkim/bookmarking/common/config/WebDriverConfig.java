@@ -2,12 +2,14 @@ package com.sonkim.bookmarking.common.config;
 
 import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 public class WebDriverConfig {
@@ -15,7 +17,11 @@ public class WebDriverConfig {
     @Bean
     public ChromeOptions chromeOptions() {
         ChromeOptions options = new ChromeOptions();
-        options.addArguments("--headless", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+        options.addArguments("--headless=new", "--disable-gpu", "--no-sandbox", "--disable-dev-shm-usage");
+        // OG 태그는 HTML 에 있으므로 이미지·오디오 로딩 없이 DOM 준비까지만 대기
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        options.addArguments("--blink-settings=imagesEnabled=false", "--mute-audio", "--disable-extensions");
+        options.setExperimentalOption("prefs", Map.of("profile.managed_default_content_settings.images", 2));
         options.addArguments("user-agent=Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/127.0.0.0 Safari/537.36");
         options.addArguments("--disable-blink-features=AutomationControlled");
         options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
@@ -29,6 +35,7 @@ public class WebDriverConfig {
         GenericObjectPoolConfig<WebDriver> config = new GenericObjectPoolConfig<>();
         config.setMaxTotal(5);    // 최대 드라이버 인스턴스 수
         config.setMinIdle(2);     // 최소 유휴 인스턴스 수
+        config.setMaxWait(Duration.ofSeconds(10));  // 빌릴 수 있는 드라이버가 없으면 최대 10초까지만 대기
         config.setJmxEnabled(false);
         config.setTimeBetweenEvictionRuns(Duration.ofMinutes(10));          // 10분마다 유휴 객체 검사
         config.setSoftMinEvictableIdleDuration(Duration.ofMinutes(30));     // 30분 이상 사용되지 않은 객체는 풀에서 제거
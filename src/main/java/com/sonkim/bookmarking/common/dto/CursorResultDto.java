@@ -1,5 +1,6 @@
 package com.sonkim.bookmarking.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import java.util.List;
 
@@ -9,9 +10,18 @@ public class CursorResultDto<T> {
     private final Long nextCursor;      // 다음 페이지를 요청할 때 사용할 커서
     private final boolean hasNext;      // 다음 페이지 존재 여부
 
+    // 여러 컬럼으로 정렬하는 목록에서 사용하는 서명된 커서
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursorToken;
+
     public CursorResultDto(List<T> content, Long nextCursor, boolean hasNext) {
+        this(content, nextCursor, hasNext, null);
+    }
+
+    public CursorResultDto(List<T> content, Long nextCursor, boolean hasNext, String nextCursorToken) {
         this.content = content;
         this.nextCursor = nextCursor;
         this.hasNext = hasNext;
+        this.nextCursorToken = nextCursorToken;
     }
 }
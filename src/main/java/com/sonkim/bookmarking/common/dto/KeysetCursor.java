@@ -0,0 +1,32 @@
+package com.sonkim.bookmarking.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 여러 컬럼으로 정렬된 목록의 다음 페이지 시작 위치
+// keys 는 정렬 컬럼 순서대로의 마지막 항목 값 (마지막 값은 항상 ID)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetCursor {
+    private String sort;
+    private List<String> keys;
+
+    public String getKey(int index) {
+        if (keys == null || index >= keys.size()) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        return keys.get(index);
+    }
+
+    public Long getLongKey(int index) {
+        try {
+            return Long.valueOf(getKey(index));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
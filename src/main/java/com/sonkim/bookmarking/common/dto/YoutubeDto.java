@@ -7,12 +7,14 @@ import java.util.List;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true) // 모르는 필드는 무시
 public class YoutubeDto {
+    private String etag;        // 응답 전체의 ETag (조건부 요청에 사용)
     private List<Item> items;
 
     // 동영상 정보 배열
     @Data
     @JsonIgnoreProperties(ignoreUnknown = true)
     public static class Item {
+        private String id;
         private Snippet snippet;
     }
 
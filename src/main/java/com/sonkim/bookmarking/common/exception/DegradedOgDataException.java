@@ -0,0 +1,15 @@
+package com.sonkim.bookmarking.common.exception;
+
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
+import lombok.Getter;
+
+// 외부 API 장애, 할당량 소진 등으로 일부 정보만 얻은 경우 (대체 결과는 짧게만 캐시)
+@Getter
+public class DegradedOgDataException extends RuntimeException {
+    private final BookmarkOGDto fallback;   // 대신 반환할 정보 (예: 기본 썸네일만 있는 결과)
+
+    public DegradedOgDataException(String message, BookmarkOGDto fallback) {
+        super(message);
+        this.fallback = fallback;
+    }
+}
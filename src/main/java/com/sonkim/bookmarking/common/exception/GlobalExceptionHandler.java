@@ -3,6 +3,7 @@ package com.sonkim.bookmarking.common.exception;
 import io.swagger.v3.oas.annotations.Hidden;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
@@ -88,6 +89,13 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.CONFLICT, e.getMessage());
     }
 
+    // 최근 추출에 실패한 URL 의 OG 정보 재요청 처리
+    @ExceptionHandler(RecentOgFailureException.class)
+    public ResponseEntity<?> handleRecentOgFailureException(RecentOgFailureException e) {
+        log.warn("최근 추출 실패한 URL 재요청: {}", e.getMessage());
+        return buildResponse(HttpStatus.CONFLICT, e.getMessage());
+    }
+
     // 그룹 중복 가입 처리
     @ExceptionHandler(MemberAlreadyExistsException.class)
     public ResponseEntity<?> handleMemberAlreadyExistsException(MemberAlreadyExistsException e) {
@@ -102,6 +110,16 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.UNPROCESSABLE_ENTITY, e.getMessage());
     }
 
+    // 처리 중인 요청이 많아 거절된 경우 (Retry-After 헤더로 재시도 시점 안내)
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> handleTooManyRequestsException(TooManyRequestsException e) {
+        log.warn("429(TOO_MANY_REQUESTS) 에러 발생: {}", e.getMessage());
+        ResponseEntity<Map<String, Object>> response = buildResponse(HttpStatus.TOO_MANY_REQUESTS, e.getMessage());
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(response.getBody());
+    }
+
     // 회원 탈퇴 시 소유주 변경이 필요한 그룹이 있을 경우 예외 처리
     @ExceptionHandler(OwnershipTransferRequiredException.class)
     public ResponseEntity<Map<String, Object>> handleOwnershipTransferRequiredException(OwnershipTransferRequiredException e) {
@@ -0,0 +1,8 @@
+package com.sonkim.bookmarking.common.exception;
+
+// 최근에 추출에 실패해 실패 결과가 캐시된 URL (잠시 후 다시 시도)
+public class RecentOgFailureException extends RuntimeException {
+    public RecentOgFailureException(String message) {
+        super(message);
+    }
+}
@@ -12,7 +12,9 @@ import software.amazon.awssdk.services.lambda.LambdaClient;
 import software.amazon.awssdk.services.lambda.model.InvokeRequest;
 import software.amazon.awssdk.services.lambda.model.InvokeResponse;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
@@ -135,10 +137,16 @@ public class S3Service {
     public String uploadImageBytes(byte[] imageBytes, String fileName, String prefix) {
         // 파일 이름이 중복되지 않도록 UUID 사용
         String key = UUID.randomUUID() + "_" + fileName;
+        putImageBytes(imageBytes, key, prefix);
+        return key;
+    }
+
+    // 정해진 키로 업로드 (같은 키가 있으면 덮어씀)
+    public void putImageBytes(byte[] imageBytes, String key, String prefix) {
         String fullKey = prefix + key;
 
         // 확장자 인식
-        String contentType = getContentType(fileName);
+        String contentType = getContentType(key);
 
         // S3에 업로드할 객체 요청 생성
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
@@ -150,8 +158,23 @@ public class S3Service {
 
         // 파일 업로드
         s3Client.putObject(putObjectRequest, RequestBody.fromBytes(imageBytes));
+    }
 
-        return key;
+    // 파일 존재 여부 확인 (내용은 내려받지 않음)
+    public boolean exists(String prefix, String key) {
+        try {
+            s3Client.headObject(builder -> builder
+                    .bucket(bucketName)
+                    .key(prefix + key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
     }
 
     private String getContentType(String fileName) {
@@ -2,6 +2,7 @@ package com.sonkim.bookmarking.common.security;
 
 import com.sonkim.bookmarking.auth.entity.UserDetailsImpl;
 import com.sonkim.bookmarking.common.util.JWTUtil;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.SignatureException;
@@ -48,16 +49,19 @@ public class JwtVerificationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
+            // 토큰 검증은 한 번만 수행하고 클레임을 재사용
+            Claims claims = jwtUtil.getVerifiedClaims(token);
+
             // 카테고리 검증 추가
-            String category = jwtUtil.getCategoryFromJWT(token);
+            String category = claims.get("category", String.class);
             if (!"access".equals(category)) {
                 response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid token category");
                 return;
             }
 
             // JWT에서 사용자 정보 추출
-            Long userId = jwtUtil.getUserId(token);
-            String username = jwtUtil.getUsernameFromJWT(token);
+            Long userId = claims.get("userId", Long.class);
+            String username = claims.get("username", String.class);
 
             // 인증 객체 생성 후 SecurityContext에 저장
             UserDetailsImpl userDetailsImpl = new UserDetailsImpl(userId, username);
@@ -0,0 +1,28 @@
+package com.sonkim.bookmarking.common.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 북마크 생성, 수정, 삭제 시 메모리 색인 갱신용 이벤트
+@Getter
+@AllArgsConstructor
+public class BookmarkChangedEvent {
+    private Long teamId;
+    private Long bookmarkId;
+    private Long categoryId;
+    private List<Long> tagIds;
+    private Double latitude;
+    private Double longitude;
+    private boolean deleted;
+
+    public static BookmarkChangedEvent saved(Long teamId, Long bookmarkId, Long categoryId, List<Long> tagIds,
+                                             Double latitude, Double longitude) {
+        return new BookmarkChangedEvent(teamId, bookmarkId, categoryId, tagIds, latitude, longitude, false);
+    }
+
+    public static BookmarkChangedEvent deleted(Long teamId, Long bookmarkId) {
+        return new BookmarkChangedEvent(teamId, bookmarkId, null, List.of(), null, null, true);
+    }
+}
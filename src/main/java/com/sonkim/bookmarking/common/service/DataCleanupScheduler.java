@@ -1,6 +1,8 @@
 package com.sonkim.bookmarking.common.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +17,17 @@ public class DataCleanupScheduler {
         cleanupService.runCleanup("CLEANUP_UNUSED_TAGS");
         cleanupService.runCleanup("CLEANUP_PENDING_TEAMS");
         cleanupService.runCleanup("CLEANUP_ORPHANED_TEAMS");
+        cleanupService.runCleanup("CLEANUP_ORPHANED_SEARCH_TOKENS");
+        cleanupService.runCleanup("SYNC_BOOKMARK_LIKES_COUNT");
+        cleanupService.runCleanup("SYNC_BOOKMARK_COUNTS");
+    }
+
+    // 서버 시작 시 한 번 실행
+    @EventListener(ApplicationReadyEvent.class)
+    public void runStartupBackfill() {
+        cleanupService.backfillBookmarkGeohash();
+        cleanupService.runCleanup("SYNC_BOOKMARK_LIKES_COUNT");
+        cleanupService.runCleanup("SYNC_BOOKMARK_COUNTS");
     }
 
 }
@@ -1,7 +1,9 @@
 package com.sonkim.bookmarking.common.service;
 
+import com.sonkim.bookmarking.domain.team.service.TeamStatusRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,7 +13,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class DatabaseCleanupService {
 
+    // geohash 채우기 완료 표시 (모든 서버가 공유)
+    private static final String GEOHASH_BACKFILL_DONE_KEY = "BACKFILL:BOOKMARK_GEOHASH:DONE";
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
     private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final TeamStatusRegistry teamStatusRegistry;
 
     @Transactional
     public void runCleanup(String taskType) {
@@ -22,6 +30,9 @@ public class DatabaseCleanupService {
             case "CLEANUP_UNUSED_TAGS" -> deletedCount = deleteUnusedTags();
             case "CLEANUP_PENDING_TEAMS" -> deletedCount = deletePendingTeams();
             case "CLEANUP_ORPHANED_TEAMS" -> deletedCount = deleteOrphanedTeams();
+            case "CLEANUP_ORPHANED_SEARCH_TOKENS" -> deletedCount = deleteOrphanedSearchTokens();
+            case "SYNC_BOOKMARK_LIKES_COUNT" -> deletedCount = syncBookmarkLikesCount();
+            case "SYNC_BOOKMARK_COUNTS" -> deletedCount = syncBookmarkCounts();
             default -> throw new IllegalArgumentException("Invalid taskType: " + taskType);
         }
 
@@ -41,7 +52,11 @@ public class DatabaseCleanupService {
                 "WHERE status = 'PENDING_DELETION' " +
                 "AND deletion_scheduled_at < NOW()";
 
-        return jdbcTemplate.update(sql);
+        int deletedCount = jdbcTemplate.update(sql);
+        if (deletedCount > 0) {
+            teamStatusRegistry.evictAll();
+        }
+        return deletedCount;
     }
 
     private int deleteOrphanedTeams() {
@@ -54,6 +69,82 @@ public class DatabaseCleanupService {
                 "  AND u.user_status = 'ACTIVE'" +
                 ")";
 
+        int deletedCount = jdbcTemplate.update(sql);
+        if (deletedCount > 0) {
+            teamStatusRegistry.evictAll();
+        }
+        return deletedCount;
+    }
+
+    private int deleteOrphanedSearchTokens() {
+        String sql = "DELETE st FROM bookmark_search_token st " +
+                "LEFT JOIN bookmark b ON st.bookmark_id = b.id " +
+                "WHERE b.id IS NULL";
+
         return jdbcTemplate.update(sql);
     }
+
+    // geohash 컬럼 추가 이전에 등록된 위치 정보 채우기 (한 번 끝나면 다시 실행하지 않음)
+    // 테이블 전체를 한 번에 잠그지 않도록 트랜잭션 없이 일정 개수씩 나눠서 갱신
+    public void backfillBookmarkGeohash() {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(GEOHASH_BACKFILL_DONE_KEY))) {
+            return;
+        }
+
+        String sql = "UPDATE bookmark " +
+                "SET geohash = ST_GeoHash(longitude, latitude, 12) " +
+                "WHERE geohash IS NULL " +
+                "AND latitude BETWEEN -90 AND 90 " +
+                "AND longitude BETWEEN -180 AND 180 " +
+                "LIMIT " + BACKFILL_BATCH_SIZE;
+
+        log.info(">>>>> Scheduler Job Start: BACKFILL_BOOKMARK_GEOHASH");
+        int updatedCount = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql);
+            updatedCount += updated;
+        } while (updated == BACKFILL_BATCH_SIZE);
+
+        stringRedisTemplate.opsForValue().set(GEOHASH_BACKFILL_DONE_KEY, "1");
+        log.info("TaskType: BACKFILL_BOOKMARK_GEOHASH Completed, Updated: {}", updatedCount);
+    }
+
+    // 북마크 좋아요 수를 실제 좋아요 데이터와 맞춤
+    private int syncBookmarkLikesCount() {
+        String sql = "UPDATE bookmark b " +
+                "LEFT JOIN (" +
+                "  SELECT bookmark_id, COUNT(*) AS cnt " +
+                "  FROM bookmark_like " +
+                "  GROUP BY bookmark_id" +
+                ") bl ON bl.bookmark_id = b.id " +
+                "SET b.likes_count = COALESCE(bl.cnt, 0) " +
+                "WHERE b.likes_count <> COALESCE(bl.cnt, 0)";
+
+        return jdbcTemplate.update(sql);
+    }
+
+    // 카테고리, 그룹의 북마크 수를 실제 북마크 데이터와 맞춤
+    private int syncBookmarkCounts() {
+        String categorySql = "UPDATE category c " +
+                "LEFT JOIN (" +
+                "  SELECT category_id, COUNT(*) AS cnt " +
+                "  FROM bookmark " +
+                "  WHERE category_id IS NOT NULL " +
+                "  GROUP BY category_id" +
+                ") b ON b.category_id = c.id " +
+                "SET c.bookmark_count = COALESCE(b.cnt, 0) " +
+                "WHERE c.bookmark_count <> COALESCE(b.cnt, 0)";
+
+        String teamSql = "UPDATE team t " +
+                "LEFT JOIN (" +
+                "  SELECT team_id, COUNT(*) AS cnt " +
+                "  FROM bookmark " +
+                "  GROUP BY team_id" +
+                ") b ON b.team_id = t.id " +
+                "SET t.bookmark_count = COALESCE(b.cnt, 0) " +
+                "WHERE t.bookmark_count <> COALESCE(b.cnt, 0)";
+
+        return jdbcTemplate.update(categorySql) + jdbcTemplate.update(teamSql);
+    }
 }
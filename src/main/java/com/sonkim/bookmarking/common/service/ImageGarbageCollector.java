@@ -0,0 +1,116 @@
+package com.sonkim.bookmarking.common.service;
+
+import com.sonkim.bookmarking.common.s3.service.S3Service;
+import com.sonkim.bookmarking.domain.bookmark.enums.ImageVariant;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// 북마크 이미지 지연 삭제
+// 더 이상 참조하지 않는 이미지는 커밋 이후 삭제 후보(Redis ZSET, 점수는 등록 시각)로만 기록하고,
+// 유예 시간이 지난 뒤 다시 참조 여부를 확인해 삭제 (같은 이미지를 재사용하는 비동기 작업, 롤백과 겹치지 않도록)
+// 재사용하는 쪽은 후보에서 먼저 빼고, 삭제하는 쪽은 후보에서 뺀 서버만 삭제
+// 원본 내용 해시 키는 북마크별 플래그와 관계없이 모든 너비의 파일을 삭제 (여러 북마크가 같은 파일을 공유하므로)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageGarbageCollector {
+
+    private static final String GC_KEY = "IMAGE:GC";
+    private static final String BOOKMARK_PREFIX = "bookmarks/";
+
+    // 이미지 처리 작업이 끝나기에 충분한 유예 시간
+    private static final long GRACE_MILLIS = TimeUnit.HOURS.toMillis(1);
+    private static final int BATCH_SIZE = 100;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BookmarkRepository bookmarkRepository;
+    private final S3Service s3Service;
+
+    // 삭제 후보 등록 (트랜잭션 안이면 커밋 이후, 롤백되면 등록하지 않음)
+    public void deleteLater(String imageKey) {
+        if (imageKey == null) {
+            return;
+        }
+
+        Runnable register = () -> stringRedisTemplate.opsForZSet().add(GC_KEY, imageKey, System.currentTimeMillis());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    register.run();
+                }
+            });
+        } else {
+            register.run();
+        }
+    }
+
+    // 이미 저장된 이미지를 재사용하기 전에 호출 (삭제 후보에서 제외)
+    public void retain(String imageKey) {
+        stringRedisTemplate.opsForZSet().remove(GC_KEY, imageKey);
+    }
+
+    @Scheduled(initialDelay = 5 * 60 * 1000L, fixedDelay = 10 * 60 * 1000L)
+    public void collect() {
+        long threshold = System.currentTimeMillis() - GRACE_MILLIS;
+        int deleted = 0;
+        int retained = 0;
+
+        while (true) {
+            Set<String> members = stringRedisTemplate.opsForZSet()
+                    .rangeByScore(GC_KEY, 0, threshold, 0, BATCH_SIZE);
+            if (members == null || members.isEmpty()) {
+                break;
+            }
+
+            for (String imageKey : members) {
+                if (bookmarkRepository.existsByImageKey(imageKey)) {
+                    stringRedisTemplate.opsForZSet().remove(GC_KEY, imageKey);
+                    retained++;
+                    continue;
+                }
+
+                // 후보에서 뺀 서버만 삭제 (다른 서버가 먼저 처리했거나 재사용으로 빠졌으면 건너뜀)
+                Long removed = stringRedisTemplate.opsForZSet().remove(GC_KEY, imageKey);
+                if (removed == null || removed == 0) {
+                    continue;
+                }
+                try {
+                    delete(imageKey);
+                    deleted++;
+                } catch (RuntimeException e) {
+                    // 이번 실행에서는 다시 조회되지 않도록 기준 시각 직후로 등록해 다음 실행에서 다시 시도
+                    stringRedisTemplate.opsForZSet().add(GC_KEY, imageKey, threshold + 1);
+                    log.warn("이미지 삭제 실패. key: {}, 원인: {}", imageKey, e.getMessage());
+                }
+            }
+
+            if (members.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        if (deleted > 0 || retained > 0) {
+            log.info("이미지 지연 삭제 완료. 삭제: {}건, 다시 참조되어 유지: {}건", deleted, retained);
+        }
+    }
+
+    private void delete(String imageKey) {
+        if (!ImageVariant.isContentHashKey(imageKey)) {
+            s3Service.deleteFile(BOOKMARK_PREFIX, imageKey);
+            return;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            s3Service.deleteFile(BOOKMARK_PREFIX, variant.keyFor(imageKey));
+        }
+    }
+}
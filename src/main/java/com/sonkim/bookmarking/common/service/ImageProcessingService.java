@@ -3,10 +3,16 @@ package com.sonkim.bookmarking.common.service;
 import com.sksamuel.scrimage.ImmutableImage;
 import com.sksamuel.scrimage.webp.WebpWriter;
 import com.sonkim.bookmarking.common.s3.service.S3Service;
+import com.sonkim.bookmarking.common.util.BlurHash;
+import com.sonkim.bookmarking.common.util.BoundedImageLoader;
 import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
+import com.sonkim.bookmarking.domain.bookmark.enums.ImageVariant;
 import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -14,7 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import java.net.URL;
+import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -23,6 +30,17 @@ import java.util.Optional;
 public class ImageProcessingService {
     private final BookmarkRepository bookmarkRepository;
     private final S3Service s3Service;
+    private final BoundedImageLoader boundedImageLoader;
+    private final CacheManager cacheManager;
+    private final ImageGarbageCollector imageGarbageCollector;
+
+    private static final String BOOKMARK_PREFIX = "bookmarks/";
+    // 원본 이미지 URL -> 저장된 파일 키
+    private static final String IMAGE_URL_CACHE = "imageUrlToKey";
+    // BlurHash 계산용 축소 이미지 너비와 성분 수
+    private static final int PLACEHOLDER_WIDTH = 32;
+    private static final int PLACEHOLDER_COMPONENTS_X = 4;
+    private static final int PLACEHOLDER_COMPONENTS_Y = 3;
 
     @Async("imageUploadExecutor")
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -43,44 +61,110 @@ public class ImageProcessingService {
         }
 
         try {
-            // 이미지 다운로드 및 로딩
-            ImmutableImage image = ImmutableImage.loader().fromUrl(new URL(imageUrl));
-
-            // 리사이징
-            if (image.width > 600) {
-                image = image.scaleToWidth(600);
-            }
-
-            // webP로 변환
-            byte[] webpImageBytes = image.bytes(WebpWriter.DEFAULT.withQ(80));
-
-            // 파일 이름 생성 및 S3 업로드
-            String originalFileName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
-            int queryIndex = imageUrl.lastIndexOf('?');
-            if (queryIndex != -1) {
-                originalFileName = originalFileName.substring(0, queryIndex);
+            StoredImage stored = findStoredImage(imageUrl);
+            if (stored == null) {
+                stored = storeImage(imageUrl);
+                Cache urlCache = cacheManager.getCache(IMAGE_URL_CACHE);
+                if (urlCache != null) {
+                    urlCache.put(imageUrl, stored.fileKey());
+                }
             }
 
-            String fileNameWithoutExt = originalFileName.contains(".")
-                    ? originalFileName.substring(0, originalFileName.lastIndexOf("."))
-                    : originalFileName;
-            String webpFileName = fileNameWithoutExt + ".webp";
-
-            String fileKey = s3Service.uploadImageBytes(webpImageBytes, webpFileName, "bookmarks/");
-
             // DB 업데이트
             Optional<Bookmark> bookmarkOptional = bookmarkRepository.findById(bookmarkId);
             if (bookmarkOptional.isPresent()) {
                 Bookmark bookmark = bookmarkOptional.get();
-                bookmark.updateImageKey(fileKey);
-                bookmark.updateOriginalImageUrl(null);
-                log.info("북마크 ID {}: 이미지 키 비동기 업데이트 완료. Key: {}", bookmarkId, fileKey);
+                bookmark.updateProcessedImage(stored.fileKey(), stored.placeholder());
+                log.info("북마크 ID {}: 이미지 키 비동기 업데이트 완료. Key: {}", bookmarkId, stored.fileKey());
             } else {
-                // 북마크를 찾지 못했을 경우: 경고 로그 기록
-                log.warn("비동기 이미지 처리 후 북마크를 찾을 수 없습니다. Bookmark ID: {}. S3 Key: {}", bookmarkId, fileKey);
+                // 처리 도중 북마크가 삭제된 경우: 저장한 이미지를 삭제 후보로 등록 (다른 북마크가 쓰고 있으면 수거 시 유지)
+                log.warn("비동기 이미지 처리 후 북마크를 찾을 수 없습니다. Bookmark ID: {}. S3 Key: {}", bookmarkId, stored.fileKey());
+                imageGarbageCollector.deleteLater(stored.fileKey());
             }
         } catch (Exception e) {
             log.error("북마크 ID : {}, 이미지 처리 중 오류 발생", bookmarkId, e);
         }
     }
+
+    // 같은 URL로 이미 저장한 이미지 (저장소에서 지워졌거나 일부 너비만 있으면 다시 처리)
+    private StoredImage findStoredImage(String imageUrl) {
+        Cache urlCache = cacheManager.getCache(IMAGE_URL_CACHE);
+        if (urlCache == null) {
+            return null;
+        }
+
+        String fileKey = urlCache.get(imageUrl, String.class);
+        if (fileKey == null) {
+            return null;
+        }
+        // 삭제 대기 중인 이미지면 후보에서 먼저 뺀 뒤 저장 여부 확인
+        imageGarbageCollector.retain(fileKey);
+        if (!isFullyStored(fileKey)) {
+            urlCache.evict(imageUrl);
+            return null;
+        }
+
+        String placeholder = findPlaceholder(fileKey);
+        return placeholder == null ? null : new StoredImage(fileKey, placeholder);
+    }
+
+    // 원본 내용의 해시를 파일 키로 사용해 같은 이미지는 한 번만 변환·업로드
+    // 한 번 디코딩한 이미지를 큰 너비부터 차례로 줄여 너비별 파일과 미리보기를 함께 생성
+    private StoredImage storeImage(String imageUrl) throws IOException {
+        try (BoundedImageLoader.Download download = boundedImageLoader.download(imageUrl)) {
+            String fileKey = download.sha256() + ".webp";
+            imageGarbageCollector.retain(fileKey);
+            if (isFullyStored(fileKey)) {
+                String placeholder = findPlaceholder(fileKey);
+                if (placeholder == null) {
+                    placeholder = encodePlaceholder(download.decode(PLACEHOLDER_WIDTH));
+                }
+                log.info("같은 이미지가 이미 저장되어 있어 업로드를 생략합니다. Key: {}", fileKey);
+                return new StoredImage(fileKey, placeholder);
+            }
+
+            // 이미지 디코딩 (용량·해상도 제한, 큰 이미지는 가장 큰 너비에 가깝게 디코딩)
+            ImmutableImage image = download.decode(ImageVariant.DETAIL.getWidth());
+
+            // 큰 너비부터 리사이징 후 webP로 변환해 업로드
+            ImageVariant[] variants = ImageVariant.values();
+            for (int i = variants.length - 1; i >= 0; i--) {
+                ImageVariant variant = variants[i];
+                if (image.width > variant.getWidth()) {
+                    image = image.scaleToWidth(variant.getWidth());
+                }
+                byte[] webpImageBytes = image.bytes(WebpWriter.DEFAULT.withQ(80));
+                s3Service.putImageBytes(webpImageBytes, variant.keyFor(fileKey), BOOKMARK_PREFIX);
+            }
+
+            return new StoredImage(fileKey, encodePlaceholder(image));
+        }
+    }
+
+    // 모든 너비의 파일이 있어야 재사용 (일부만 남은 경우 다시 업로드)
+    private boolean isFullyStored(String fileKey) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!s3Service.exists(BOOKMARK_PREFIX, variant.keyFor(fileKey))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 같은 이미지를 쓰는 다른 북마크의 미리보기 재사용
+    private String findPlaceholder(String fileKey) {
+        List<String> placeholders = bookmarkRepository.findImagePlaceholdersByImageKey(fileKey, PageRequest.of(0, 1));
+        return placeholders.isEmpty() ? null : placeholders.get(0);
+    }
+
+    private String encodePlaceholder(ImmutableImage image) {
+        if (image.width > PLACEHOLDER_WIDTH) {
+            image = image.scaleToWidth(PLACEHOLDER_WIDTH);
+        }
+        int[] pixels = image.awt().getRGB(0, 0, image.width, image.height, null, 0, image.width);
+        return BlurHash.encode(pixels, image.width, image.height, PLACEHOLDER_COMPONENTS_X, PLACEHOLDER_COMPONENTS_Y);
+    }
+
+    private record StoredImage(String fileKey, String placeholder) {
+    }
 }
@@ -1,53 +1,300 @@
 package com.sonkim.bookmarking.common.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sonkim.bookmarking.common.dto.YoutubeDto;
+import com.sonkim.bookmarking.common.exception.DegradedOgDataException;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// YouTube 동영상 정보 조회
+// 짧은 시간 동안 들어온 요청을 모아 한 번에 최대 50개씩 조회하고(호출 1회 = 할당량 1), 결과는 Redis 에 오래 캐시
+// 오래된 캐시는 바로 반환한 뒤 백그라운드에서 다시 확인하며, 일일 할당량이 부족해지면 캐시나 기본 썸네일로 대체
+// 기본 썸네일로 대체한 결과는 DegradedOgDataException 으로 알려 호출 측에서 오래 캐시하지 않도록 함
+// 묶음 대기는 단일 스레드 스케줄러가, 실제 API 호출은 전용 스레드 풀이 처리해 느린 호출이 다음 묶음을 막지 않도록 함
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class YoutubeService {
 
+    private static final String YOUTUBE_API_URL =
+            "https://www.googleapis.com/youtube/v3/videos?part=snippet&id={videoIds}&key={apiKey}&regionCode=KR&hl=ko";
+    // API 할당량 없이 쓸 수 있는 기본 썸네일
+    private static final String DEFAULT_THUMBNAIL_URL = "https://i.ytimg.com/vi/%s/hqdefault.jpg";
+
+    private static final String SNIPPET_KEY_PREFIX = "YT:SNIPPET:";
+    private static final String QUOTA_KEY_PREFIX = "YT:QUOTA:";
+
+    private static final int MAX_BATCH_SIZE = 50;
+    private static final long BATCH_WINDOW_MILLIS = 50L;
+    private static final long WAIT_TIMEOUT_MILLIS = 10_000L;
+
+    private static final long SNIPPET_TTL_DAYS = 7;
+    // 이 시간이 지난 캐시는 반환 후 다시 확인
+    private static final long FRESH_MILLIS = TimeUnit.HOURS.toMillis(24);
+
+    // 일일 할당량 (태평양 시간 자정에 초기화)
+    private static final long DAILY_QUOTA = 10_000;
+    // 할당량이 이 비율 이상 쓰이면 오래된 캐시를 다시 확인하지 않음
+    private static final double REVALIDATE_QUOTA_RATIO = 0.9;
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
     private final RestTemplate restTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor youtubeFetchExecutor;
 
     @Value("${google.youtube.api.key}")
     private String apiKey;
 
-    private static final String YOUTUBE_API_URL =
-            "https://www.googleapis.com/youtube/v3/videos?part=snippet&id={videoId}&key={apiKey}&regionCode=KR&hl=ko";
+    // 다음 묶음 요청에 포함될 동영상 ID별 대기 중인 요청
+    private final Map<String, List<CompletableFuture<BookmarkOGDto>>> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService batchScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "YoutubeBatch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public YoutubeService(RestTemplate restTemplate,
+                          StringRedisTemplate stringRedisTemplate,
+                          ObjectMapper objectMapper,
+                          @Qualifier("youtubeFetchExecutor") Executor youtubeFetchExecutor) {
+        this.restTemplate = restTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.youtubeFetchExecutor = youtubeFetchExecutor;
+    }
 
     public BookmarkOGDto getVideoDetails(String videoId) {
-        // API URL에 파라미터를 담아 요청 전송, 응답을 DTO로 자동 변환
-        YoutubeDto response = restTemplate.getForObject(YOUTUBE_API_URL, YoutubeDto.class, videoId, apiKey);
-
-        if (response != null && response.getItems() != null && !response.getItems().isEmpty()) {
-            YoutubeDto.Snippet snippet = response.getItems().get(0).getSnippet();
-
-            // 제목, 설명 가져오기
-            String title = snippet.getLocalized().getTitle();
-            String description = snippet.getLocalized().getDescription();
-
-            // 가장 높은 화질의 썸네일 선택
-            String imageUrl = "";
-            if (snippet.getThumbnails().getMaxres() != null) {
-                imageUrl = snippet.getThumbnails().getMaxres().getUrl();
-            } else if (snippet.getThumbnails().getStandard() != null) {
-                imageUrl = snippet.getThumbnails().getStandard().getUrl();
-            } else if (snippet.getThumbnails().getHigh() != null) {
-                imageUrl = snippet.getThumbnails().getHigh().getUrl();
+        CachedSnippet cached = getCached(videoId);
+        if (cached != null) {
+            if (System.currentTimeMillis() - cached.fetchedAt() > FRESH_MILLIS && hasQuotaForRevalidation()) {
+                enqueue(videoId);
             }
+            return cached.data();
+        }
+
+        if (isQuotaExhausted()) {
+            log.warn("YouTube API 할당량 소진. 기본 썸네일로 대체합니다. videoId: {}", videoId);
+            throw new DegradedOgDataException("YouTube API 할당량 소진", defaultOgData(videoId));
+        }
+
+        try {
+            return enqueue(videoId).get(WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DegradedOgDataException("YouTube 동영상 정보 조회 중 인터럽트", defaultOgData(videoId));
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("YouTube 동영상 정보 조회 실패. 기본 썸네일로 대체합니다. videoId: {}, 원인: {}", videoId, e.getMessage());
+            throw new DegradedOgDataException("YouTube 동영상 정보 조회 실패", defaultOgData(videoId));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        batchScheduler.shutdownNow();
+    }
 
-            // BookmarkOGDto로 변환하여 반환
-            return BookmarkOGDto.builder()
-                    .title(title)
-                    .description(description)
-                    .image(imageUrl)
-                    .build();
+    // 다음 묶음 요청에 추가 (첫 요청이면 잠시 뒤 전송, 50개가 모이면 바로 전송)
+    private CompletableFuture<BookmarkOGDto> enqueue(String videoId) {
+        CompletableFuture<BookmarkOGDto> future = new CompletableFuture<>();
+        boolean first;
+        boolean full;
+        synchronized (pending) {
+            first = pending.isEmpty();
+            pending.computeIfAbsent(videoId, id -> new ArrayList<>()).add(future);
+            full = pending.size() >= MAX_BATCH_SIZE;
+        }
+
+        if (full) {
+            batchScheduler.execute(this::flush);
+        } else if (first) {
+            batchScheduler.schedule(this::flush, BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return future;
+    }
+
+    private void flush() {
+        Map<String, List<CompletableFuture<BookmarkOGDto>>> batch = new LinkedHashMap<>();
+        synchronized (pending) {
+            var it = pending.entrySet().iterator();
+            while (it.hasNext() && batch.size() < MAX_BATCH_SIZE) {
+                var entry = it.next();
+                batch.put(entry.getKey(), entry.getValue());
+                it.remove();
+            }
+            // 남은 요청은 다음 묶음으로
+            if (!pending.isEmpty()) {
+                batchScheduler.schedule(this::flush, BATCH_WINDOW_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            youtubeFetchExecutor.execute(() -> fetchBatch(batch));
+        } catch (RejectedExecutionException e) {
+            batch.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(e)));
+        }
+    }
+
+    // 응답에 없는 동영상(삭제, 비공개)은 빈 결과로 완료
+    private void fetchBatch(Map<String, List<CompletableFuture<BookmarkOGDto>>> batch) {
+        try {
+            Map<String, BookmarkOGDto> results = fetch(new ArrayList<>(batch.keySet()));
+            batch.forEach((videoId, futures) ->
+                    futures.forEach(f -> f.complete(results.getOrDefault(videoId, new BookmarkOGDto()))));
+        } catch (Exception e) {
+            batch.values().forEach(futures -> futures.forEach(f -> f.completeExceptionally(e)));
+        }
+    }
+
+    // 동영상 ID 묶음 조회 (ID 하나를 다시 확인하는 경우에는 ETag 로 조건부 요청)
+    private Map<String, BookmarkOGDto> fetch(List<String> videoIds) {
+        HttpHeaders headers = new HttpHeaders();
+        CachedSnippet revalidating = null;
+        if (videoIds.size() == 1) {
+            revalidating = getCached(videoIds.get(0));
+            if (revalidating != null && revalidating.etag() != null) {
+                headers.setIfNoneMatch(revalidating.etag());
+            }
         }
 
-        return null;
+        useQuota();
+        ResponseEntity<YoutubeDto> response = restTemplate.exchange(YOUTUBE_API_URL, HttpMethod.GET,
+                new HttpEntity<>(headers), YoutubeDto.class, String.join(",", videoIds), apiKey);
+
+        Map<String, BookmarkOGDto> results = new HashMap<>();
+        if (response.getStatusCode() == HttpStatus.NOT_MODIFIED && revalidating != null) {
+            // 바뀐 내용이 없으면 캐시 유효시간만 연장
+            putCached(videoIds.get(0), revalidating.data(), revalidating.etag());
+            results.put(videoIds.get(0), revalidating.data());
+            return results;
+        }
+
+        YoutubeDto body = response.getBody();
+        if (body == null || body.getItems() == null) {
+            // 응답을 읽을 수 없으면 동영상이 없는 것으로 보지 않고 조회 실패로 처리
+            throw new IllegalStateException("YouTube API 응답이 비어 있습니다.");
+        }
+
+        // 응답 ETag 는 요청한 ID 묶음 전체에 대한 값이므로 ID 하나만 요청한 경우에만 저장
+        String etag = videoIds.size() == 1 ? body.getEtag() : null;
+        for (YoutubeDto.Item item : body.getItems()) {
+            if (item.getSnippet() == null || item.getSnippet().getLocalized() == null) {
+                continue;
+            }
+            BookmarkOGDto data = toOgData(item.getSnippet());
+            putCached(item.getId(), data, etag);
+            results.put(item.getId(), data);
+        }
+        return results;
+    }
+
+    private BookmarkOGDto toOgData(YoutubeDto.Snippet snippet) {
+        // 제목, 설명 가져오기
+        String title = snippet.getLocalized().getTitle();
+        String description = snippet.getLocalized().getDescription();
+
+        // 가장 높은 화질의 썸네일 선택
+        String imageUrl = "";
+        if (snippet.getThumbnails().getMaxres() != null) {
+            imageUrl = snippet.getThumbnails().getMaxres().getUrl();
+        } else if (snippet.getThumbnails().getStandard() != null) {
+            imageUrl = snippet.getThumbnails().getStandard().getUrl();
+        } else if (snippet.getThumbnails().getHigh() != null) {
+            imageUrl = snippet.getThumbnails().getHigh().getUrl();
+        }
+
+        // BookmarkOGDto로 변환하여 반환
+        return BookmarkOGDto.builder()
+                .title(title)
+                .description(description)
+                .image(imageUrl)
+                .build();
+    }
+
+    private BookmarkOGDto defaultOgData(String videoId) {
+        return BookmarkOGDto.builder()
+                .image(String.format(DEFAULT_THUMBNAIL_URL, videoId))
+                .build();
+    }
+
+    private CachedSnippet getCached(String videoId) {
+        String json = stringRedisTemplate.opsForValue().get(SNIPPET_KEY_PREFIX + videoId);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, CachedSnippet.class);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private void putCached(String videoId, BookmarkOGDto data, String etag) {
+        try {
+            String json = objectMapper.writeValueAsString(new CachedSnippet(data, etag, System.currentTimeMillis()));
+            stringRedisTemplate.opsForValue().set(SNIPPET_KEY_PREFIX + videoId, json, SNIPPET_TTL_DAYS, TimeUnit.DAYS);
+        } catch (JsonProcessingException e) {
+            log.warn("YouTube 동영상 정보 캐시 저장 실패. videoId: {}", videoId, e);
+        }
+    }
+
+    // 오늘 사용한 할당량 (videos.list 호출 1회당 1)
+    private long getUsedQuota() {
+        String used = stringRedisTemplate.opsForValue().get(quotaKey());
+        return used == null ? 0 : Long.parseLong(used);
+    }
+
+    private void useQuota() {
+        String key = quotaKey();
+        Long used = stringRedisTemplate.opsForValue().increment(key);
+        if (used != null && used == 1) {
+            stringRedisTemplate.expire(key, 2, TimeUnit.DAYS);
+        }
+    }
+
+    private boolean isQuotaExhausted() {
+        return getUsedQuota() >= DAILY_QUOTA;
+    }
+
+    private boolean hasQuotaForRevalidation() {
+        return getUsedQuota() < DAILY_QUOTA * REVALIDATE_QUOTA_RATIO;
+    }
+
+    private static String quotaKey() {
+        return QUOTA_KEY_PREFIX + LocalDate.now(QUOTA_ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    public record CachedSnippet(BookmarkOGDto data, String etag, long fetchedAt) {
     }
 }
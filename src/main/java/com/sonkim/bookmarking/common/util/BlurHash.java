@@ -0,0 +1,111 @@
+package com.sonkim.bookmarking.common.util;
+
+// BlurHash 인코더 (https://github.com/woltapp/blurhash 알고리즘)
+// 이미지를 몇 개의 코사인 성분으로 줄여 20~30자 문자열로 표현, 클라이언트는 이미지 로딩 전 흐린 미리보기로 사용
+public class BlurHash {
+
+    private static final String CHARACTERS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    private BlurHash() {
+    }
+
+    // pixels: 0xRRGGBB 형식의 픽셀 배열 (작은 이미지일수록 빠름, 32px 정도면 충분)
+    public static String encode(int[] pixels, int width, int height, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash 성분 수는 1~9 사이여야 합니다.");
+        }
+
+        // 픽셀을 선형 색공간으로 한 번만 변환
+        int size = width * height;
+        double[] linearR = new double[size];
+        double[] linearG = new double[size];
+        double[] linearB = new double[size];
+        for (int i = 0; i < size; i++) {
+            int pixel = pixels[i];
+            linearR[i] = sRgbToLinear((pixel >> 16) & 0xFF);
+            linearG[i] = sRgbToLinear((pixel >> 8) & 0xFF);
+            linearB[i] = sRgbToLinear(pixel & 0xFF);
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                double normalisation = (i == 0 && j == 0) ? 1 : 2;
+                double r = 0, g = 0, b = 0;
+                for (int y = 0; y < height; y++) {
+                    double basisY = Math.cos(Math.PI * j * y / height);
+                    for (int x = 0; x < width; x++) {
+                        double basis = normalisation * Math.cos(Math.PI * i * x / width) * basisY;
+                        int index = y * width + x;
+                        r += basis * linearR[index];
+                        g += basis * linearG[index];
+                        b += basis * linearB[index];
+                    }
+                }
+                double scale = 1.0 / size;
+                factors[j * componentsX + i] = new double[]{r * scale, g * scale, b * scale};
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encode83(hash, (componentsX - 1) + (componentsY - 1) * 9, 1);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int i = 1; i < factors.length; i++) {
+                for (double component : factors[i]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(component));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            encode83(hash, quantisedMaximum, 1);
+        } else {
+            maximumValue = 1;
+            encode83(hash, 0, 1);
+        }
+
+        encode83(hash, encodeDc(factors[0]), 4);
+        for (int i = 1; i < factors.length; i++) {
+            encode83(hash, encodeAc(factors[i], maximumValue), 2);
+        }
+        return hash.toString();
+    }
+
+    private static int encodeDc(double[] value) {
+        return (linearToSRgb(value[0]) << 16) + (linearToSRgb(value[1]) << 8) + linearToSRgb(value[2]);
+    }
+
+    private static int encodeAc(double[] value, double maximumValue) {
+        int quantR = quantiseAc(value[0] / maximumValue);
+        int quantG = quantiseAc(value[1] / maximumValue);
+        int quantB = quantiseAc(value[2] / maximumValue);
+        return quantR * 19 * 19 + quantG * 19 + quantB;
+    }
+
+    private static int quantiseAc(double value) {
+        double signPow = Math.copySign(Math.pow(Math.abs(value), 0.5), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signPow * 9 + 9.5)));
+    }
+
+    private static double sRgbToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int linearToSRgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        return v <= 0.0031308
+                ? (int) (v * 12.92 * 255 + 0.5)
+                : (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encode83(StringBuilder sb, int value, int length) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (int) (value / Math.pow(83, length - i)) % 83;
+            sb.append(CHARACTERS.charAt(digit));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.sonkim.bookmarking.common.util;
+
+import com.sksamuel.scrimage.ImmutableImage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+// 외부 이미지 다운로드 및 디코딩
+// 크기·시간 제한을 두고 내려받은 뒤, 디코딩 전에 헤더에서 해상도를 읽어 너무 큰 이미지는 거절
+// 큰 이미지는 목표 너비에 가깝게 건너뛰며(subsampling) 디코딩해 원본 전체를 메모리에 올리지 않음
+// ImageIO 가 읽지 못하는 WebP 는 RIFF 헤더에서 해상도를 읽어 검사하고, 해상도를 알 수 없는 형식은 거절
+// WebP 는 건너뛰며 디코딩할 수 없어 원본 크기 그대로 메모리에 올리므로 더 낮은 해상도 제한 적용
+@Slf4j
+@Component
+public class BoundedImageLoader {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int READ_TIMEOUT_MILLIS = 10_000;
+    private static final int MAX_BYTES = 10 * 1024 * 1024;
+    // 헤더 기준 최대 해상도 (이보다 크면 디코딩하지 않음)
+    private static final long MAX_PIXELS = 100_000_000L;
+    // 건너뛰며 디코딩할 수 없는 형식(WebP)의 최대 해상도 (16MP, ARGB 기준 약 64MB)
+    private static final long MAX_FULL_DECODE_PIXELS = 16_000_000L;
+    // 작업 스레드별로 재사용하는 다운로드 버퍼 (이보다 커진 버퍼는 작업 후 버림)
+    private static final int RETAINED_BUFFER_BYTES = 2 * 1024 * 1024;
+
+    private static final ThreadLocal<ReusableBuffer> BUFFERS = ThreadLocal.withInitial(ReusableBuffer::new);
+
+    static {
+        // 메모리에 있는 바이트를 읽을 때 임시 파일을 만들지 않도록 설정
+        ImageIO.setUseCache(false);
+    }
+
+    // 이미지 다운로드 (사용 후 반드시 close 하여 버퍼 반환)
+    public Download download(String imageUrl) throws IOException {
+        ReusableBuffer buffer = BUFFERS.get();
+        try {
+            fetchInto(imageUrl, buffer);
+            return new Download(imageUrl, buffer);
+        } catch (IOException | RuntimeException e) {
+            buffer.release();
+            throw e;
+        }
+    }
+
+    // 내려받은 이미지 원본
+    public static final class Download implements AutoCloseable {
+        private final String imageUrl;
+        private final ReusableBuffer buffer;
+
+        private Download(String imageUrl, ReusableBuffer buffer) {
+            this.imageUrl = imageUrl;
+            this.buffer = buffer;
+        }
+
+        // 원본 바이트의 SHA-256 (같은 이미지 판별용)
+        public String sha256() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(buffer.array(), 0, buffer.size());
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+            }
+        }
+
+        // targetWidth 이상, 가능한 한 작은 크기로 디코딩
+        public ImmutableImage decode(int targetWidth) throws IOException {
+            long start = System.currentTimeMillis();
+            ImmutableImage image = BoundedImageLoader.decode(buffer.array(), buffer.size(), targetWidth);
+            log.debug("이미지 디코딩 완료. URL: {}, 크기: {}B, 디코딩 해상도: {}x{}, 소요 시간: {}ms",
+                    imageUrl, buffer.size(), image.width, image.height, System.currentTimeMillis() - start);
+            return image;
+        }
+
+        @Override
+        public void close() {
+            buffer.release();
+        }
+    }
+
+    private static void fetchInto(String imageUrl, ReusableBuffer buffer) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(imageUrl).openConnection();
+        conn.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        conn.setReadTimeout(READ_TIMEOUT_MILLIS);
+        try {
+            int status = conn.getResponseCode();
+            if (status >= 400) {
+                throw new IOException("이미지 다운로드 실패. status=" + status);
+            }
+
+            long contentLength = conn.getContentLengthLong();
+            if (contentLength > MAX_BYTES) {
+                throw new IOException("이미지 용량이 너무 큽니다. " + contentLength + "B");
+            }
+
+            try (InputStream in = conn.getInputStream()) {
+                byte[] chunk = new byte[8192];
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    if (buffer.size() + read > MAX_BYTES) {
+                        throw new IOException("이미지 용량이 너무 큽니다. (" + MAX_BYTES + "B 초과)");
+                    }
+                    buffer.write(chunk, 0, read);
+                }
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private static ImmutableImage decode(byte[] bytes, int length, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes, 0, length))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                // ImageIO 가 읽지 못하는 WebP 는 헤더의 해상도를 검사한 뒤 기존 방식으로 디코딩
+                int[] size = webpSize(bytes, length);
+                if (size == null) {
+                    throw new IOException("지원하지 않는 이미지 형식입니다.");
+                }
+                checkPixels(size[0], size[1], MAX_FULL_DECODE_PIXELS);
+                return ImmutableImage.loader().fromBytes(Arrays.copyOf(bytes, length));
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                checkPixels(width, height, MAX_PIXELS);
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / targetWidth);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+
+                BufferedImage decoded = reader.read(0, param);
+                return ImmutableImage.fromAwt(decoded);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static void checkPixels(int width, int height, long maxPixels) throws IOException {
+        if ((long) width * height > maxPixels) {
+            throw new IOException("이미지 해상도가 너무 큽니다. " + width + "x" + height);
+        }
+    }
+
+    // WebP 해상도 {너비, 높이} (WebP 가 아니거나 헤더가 잘렸으면 null)
+    // RIFF 헤더(12B) 다음 첫 청크 종류에 따라 위치가 다름
+    // VP8X: 캔버스 크기(각 24비트 - 1), VP8L: 14비트씩(- 1), VP8: 시작 코드 뒤 14비트씩
+    static int[] webpSize(byte[] bytes, int length) {
+        if (length < 30 || !fourCc(bytes, 0, "RIFF") || !fourCc(bytes, 8, "WEBP")) {
+            return null;
+        }
+
+        if (fourCc(bytes, 12, "VP8X")) {
+            int width = 1 + (u8(bytes, 24) | u8(bytes, 25) << 8 | u8(bytes, 26) << 16);
+            int height = 1 + (u8(bytes, 27) | u8(bytes, 28) << 8 | u8(bytes, 29) << 16);
+            return new int[]{width, height};
+        }
+        if (fourCc(bytes, 12, "VP8L")) {
+            if (u8(bytes, 20) != 0x2F) {
+                return null;
+            }
+            int bits = u8(bytes, 21) | u8(bytes, 22) << 8 | u8(bytes, 23) << 16 | u8(bytes, 24) << 24;
+            return new int[]{1 + (bits & 0x3FFF), 1 + ((bits >>> 14) & 0x3FFF)};
+        }
+        if (fourCc(bytes, 12, "VP8 ")) {
+            if (u8(bytes, 23) != 0x9D || u8(bytes, 24) != 0x01 || u8(bytes, 25) != 0x2A) {
+                return null;
+            }
+            int width = (u8(bytes, 26) | u8(bytes, 27) << 8) & 0x3FFF;
+            int height = (u8(bytes, 28) | u8(bytes, 29) << 8) & 0x3FFF;
+            return new int[]{width, height};
+        }
+        return null;
+    }
+
+    private static boolean fourCc(byte[] bytes, int offset, String code) {
+        for (int i = 0; i < 4; i++) {
+            if (bytes[offset + i] != code.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int u8(byte[] bytes, int offset) {
+        return bytes[offset] & 0xFF;
+    }
+
+    // 내부 배열을 직접 노출하는 버퍼 (복사 없이 디코딩에 사용)
+    private static final class ReusableBuffer extends ByteArrayOutputStream {
+
+        ReusableBuffer() {
+            super(64 * 1024);
+        }
+
+        byte[] array() {
+            return buf;
+        }
+
+        void release() {
+            reset();
+            if (buf.length > RETAINED_BUFFER_BYTES) {
+                buf = new byte[64 * 1024];
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.sonkim.bookmarking.common.util;
+
+import java.util.*;
+
+// Roaring Bitmap 방식의 압축 비트맵
+// ID의 상위 48비트를 키로 컨테이너를 나누고, 컨테이너 안에서는 하위 16비트만 저장
+// 원소가 적으면 정렬된 배열, 많으면 65536비트 비트맵으로 저장
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화 필요
+public class CompressedBitmap {
+
+    private final TreeMap<Long, Container> containers = new TreeMap<>();
+
+    public void add(long value) {
+        containers.computeIfAbsent(highBits(value), key -> new Container()).add(lowBits(value));
+    }
+
+    public void remove(long value) {
+        long key = highBits(value);
+        Container container = containers.get(key);
+        if (container == null) {
+            return;
+        }
+
+        container.remove(lowBits(value));
+        if (container.cardinality == 0) {
+            containers.remove(key);
+        }
+    }
+
+    public boolean contains(long value) {
+        Container container = containers.get(highBits(value));
+        return container != null && container.contains(lowBits(value));
+    }
+
+    public long cardinality() {
+        long count = 0;
+        for (Container container : containers.values()) {
+            count += container.cardinality;
+        }
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return containers.isEmpty();
+    }
+
+    public CompressedBitmap copy() {
+        CompressedBitmap result = new CompressedBitmap();
+        containers.forEach((key, container) -> result.containers.put(key, container.copy()));
+        return result;
+    }
+
+    // 교집합
+    public CompressedBitmap and(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            if (otherContainer != null) {
+                result.putIfNotEmpty(entry.getKey(), entry.getValue().and(otherContainer));
+            }
+        }
+        return result;
+    }
+
+    // 합집합
+    public CompressedBitmap or(CompressedBitmap other) {
+        CompressedBitmap result = copy();
+        for (Map.Entry<Long, Container> entry : other.containers.entrySet()) {
+            Container container = result.containers.get(entry.getKey());
+            result.containers.put(entry.getKey(),
+                    container == null ? entry.getValue().copy() : container.or(entry.getValue()));
+        }
+        return result;
+    }
+
+    // 차집합
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        CompressedBitmap result = new CompressedBitmap();
+        for (Map.Entry<Long, Container> entry : containers.entrySet()) {
+            Container otherContainer = other.containers.get(entry.getKey());
+            result.putIfNotEmpty(entry.getKey(),
+                    otherContainer == null ? entry.getValue().copy() : entry.getValue().andNot(otherContainer));
+        }
+        return result;
+    }
+
+    // upperBound 미만의 값을 큰 값부터 limit 개 반환 (upperBound 가 null 이면 전체 범위)
+    public List<Long> descendingBelow(Long upperBound, int limit) {
+        List<Long> result = new ArrayList<>(Math.min(limit, 1024));
+        if (limit <= 0 || (upperBound != null && upperBound <= 0)) {
+            return result;
+        }
+
+        NavigableMap<Long, Container> view = upperBound == null
+                ? containers.descendingMap()
+                : containers.headMap(highBits(upperBound - 1), true).descendingMap();
+
+        for (Map.Entry<Long, Container> entry : view.entrySet()) {
+            long key = entry.getKey();
+            int from = (upperBound != null && key == highBits(upperBound - 1)) ? lowBits(upperBound - 1) : 0xFFFF;
+            entry.getValue().collectDescending(from, key << 16, limit, result);
+            if (result.size() >= limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private void putIfNotEmpty(long key, Container container) {
+        if (container.cardinality > 0) {
+            containers.put(key, container);
+        }
+    }
+
+    private static long highBits(long value) {
+        return value >>> 16;
+    }
+
+    private static int lowBits(long value) {
+        return (int) (value & 0xFFFF);
+    }
+
+    private static final class Container {
+        private static final int ARRAY_MAX_SIZE = 4096;
+        private static final int WORD_COUNT = 1024;
+
+        // 배열 표현 (words 가 null 일 때 사용)
+        private char[] values = new char[4];
+        // 비트맵 표현
+        private long[] words;
+        private int cardinality;
+
+        boolean contains(int low) {
+            if (words != null) {
+                return (words[low >>> 6] & (1L << low)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, (char) low) >= 0;
+        }
+
+        void add(int low) {
+            if (words != null) {
+                long mask = 1L << low;
+                if ((words[low >>> 6] & mask) == 0) {
+                    words[low >>> 6] |= mask;
+                    cardinality++;
+                }
+                return;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (pos >= 0) {
+                return;
+            }
+
+            // 배열이 가득 차면 비트맵으로 전환
+            if (cardinality >= ARRAY_MAX_SIZE) {
+                words = toWords();
+                values = null;
+                add(low);
+                return;
+            }
+
+            int insertAt = -pos - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(values.length * 2, ARRAY_MAX_SIZE));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = (char) low;
+            cardinality++;
+        }
+
+        void remove(int low) {
+            if (words != null) {
+                long mask = 1L << low;
+                if ((words[low >>> 6] & mask) != 0) {
+                    words[low >>> 6] &= ~mask;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX_SIZE) {
+                        convertToArray();
+                    }
+                }
+                return;
+            }
+
+            int pos = Arrays.binarySearch(values, 0, cardinality, (char) low);
+            if (pos >= 0) {
+                System.arraycopy(values, pos + 1, values, pos, cardinality - pos - 1);
+                cardinality--;
+            }
+        }
+
+        Container and(Container other) {
+            if (words == null) {
+                return filter(other, true);
+            }
+            if (other.words == null) {
+                return other.filter(this, true);
+            }
+
+            long[] result = new long[WORD_COUNT];
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] = words[i] & other.words[i];
+            }
+            return fromWords(result);
+        }
+
+        Container or(Container other) {
+            if (words == null && other.words == null && cardinality + other.cardinality <= ARRAY_MAX_SIZE) {
+                return mergeArrays(other);
+            }
+
+            long[] result = words != null ? words.clone() : toWords();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] |= otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        Container andNot(Container other) {
+            if (words == null) {
+                return filter(other, false);
+            }
+
+            long[] result = words.clone();
+            long[] otherWords = other.toWords();
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] &= ~otherWords[i];
+            }
+            return fromWords(result);
+        }
+
+        Container copy() {
+            Container container = new Container();
+            container.cardinality = cardinality;
+            if (words != null) {
+                container.words = words.clone();
+                container.values = null;
+            } else {
+                container.values = Arrays.copyOf(values, Math.max(cardinality, 4));
+            }
+            return container;
+        }
+
+        // from 이하의 값을 큰 값부터 수집
+        void collectDescending(int from, long base, int limit, List<Long> out) {
+            if (words == null) {
+                int pos = Arrays.binarySearch(values, 0, cardinality, (char) from);
+                for (int i = pos >= 0 ? pos : -pos - 2; i >= 0 && out.size() < limit; i--) {
+                    out.add(base | values[i]);
+                }
+                return;
+            }
+
+            int value = from;
+            while (value >= 0 && out.size() < limit) {
+                int index = value >>> 6;
+                long word = words[index] & (-1L >>> (63 - (value & 63)));
+                if (word == 0) {
+                    value = (index << 6) - 1;
+                    continue;
+                }
+                int found = (index << 6) + (63 - Long.numberOfLeadingZeros(word));
+                out.add(base | found);
+                value = found - 1;
+            }
+        }
+
+        // 배열 컨테이너의 원소 중 other 에 포함 여부가 keep 과 같은 것만 남김
+        private Container filter(Container other, boolean keep) {
+            Container result = new Container();
+            result.values = new char[Math.max(cardinality, 4)];
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result.values[result.cardinality++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        private Container mergeArrays(Container other) {
+            Container result = new Container();
+            result.values = new char[Math.max(cardinality + other.cardinality, 4)];
+            int i = 0, j = 0;
+            while (i < cardinality || j < other.cardinality) {
+                char next;
+                if (j >= other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    next = values[i++];
+                } else if (i >= cardinality || other.values[j] < values[i]) {
+                    next = other.values[j++];
+                } else {
+                    next = values[i++];
+                    j++;
+                }
+                result.values[result.cardinality++] = next;
+            }
+            return result;
+        }
+
+        private long[] toWords() {
+            if (words != null) {
+                return words;
+            }
+
+            long[] result = new long[WORD_COUNT];
+            for (int i = 0; i < cardinality; i++) {
+                result[values[i] >>> 6] |= 1L << values[i];
+            }
+            return result;
+        }
+
+        private void convertToArray() {
+            char[] result = new char[Math.max(cardinality, 4)];
+            int n = 0;
+            for (int i = 0; i < WORD_COUNT; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    result[n++] = (char) ((i << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = result;
+            words = null;
+        }
+
+        private static Container fromWords(long[] words) {
+            Container container = new Container();
+            container.words = words;
+            container.values = null;
+            for (long word : words) {
+                container.cardinality += Long.bitCount(word);
+            }
+            if (container.cardinality <= ARRAY_MAX_SIZE) {
+                container.convertToArray();
+            }
+            return container;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.sonkim.bookmarking.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonkim.bookmarking.common.dto.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+// 커서를 클라이언트가 수정할 수 없는 불투명 문자열로 변환
+// 형식: base64url(JSON) + "." + base64url(HMAC-SHA256)
+// 서명 키는 spring.cursor.secret, 없으면 JWT 비밀 키에서 용도별로 파생한 키 사용 (JWT 서명 키를 그대로 쓰지 않음)
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    // 키 파생 용도 구분값 (바꾸면 기존 커서는 모두 무효)
+    private static final String KEY_DERIVATION_LABEL = "cursor-v1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SecretKeySpec secretKey;
+
+    public CursorCodec(@Value("${spring.cursor.secret:}") String cursorSecret,
+                       @Value("${spring.jwt.secret}") String jwtSecret) {
+        byte[] key = cursorSecret.isBlank()
+                ? hmac(jwtSecret.getBytes(StandardCharsets.UTF_8), KEY_DERIVATION_LABEL.getBytes(StandardCharsets.US_ASCII))
+                : cursorSecret.getBytes(StandardCharsets.UTF_8);
+        this.secretKey = new SecretKeySpec(key, ALGORITHM);
+    }
+
+    public String encode(KeysetCursor cursor) {
+        try {
+            String payload = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(objectMapper.writeValueAsBytes(cursor));
+            return payload + "." + sign(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("커서 생성에 실패했습니다.", e);
+        }
+    }
+
+    public KeysetCursor decode(String token) {
+        int separator = token.lastIndexOf('.');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        String payload = token.substring(0, separator);
+        String signature = token.substring(separator + 1);
+        if (!MessageDigest.isEqual(
+                sign(payload).getBytes(StandardCharsets.US_ASCII),
+                signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        try {
+            return objectMapper.readValue(Base64.getUrlDecoder().decode(payload), KeysetCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    private String sign(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 algorithm not supported", e);
+        }
+    }
+
+    private static byte[] hmac(byte[] key, byte[] data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(key, ALGORITHM));
+            return mac.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 algorithm not supported", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sonkim.bookmarking.common.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class GeoHashUtil {
+
+    public static final int MAX_PRECISION = 12;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    // 영역 조회 시 사용할 최대 셀 수 (셀마다 인덱스 범위 스캔 1회)
+    private static final int MAX_COVER_CELLS = 16;
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    // 위도, 경도를 geohash 문자열로 변환 (MySQL ST_GeoHash 와 동일한 결과)
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+
+        StringBuilder sb = new StringBuilder(precision);
+        boolean isLongitude = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (sb.length() < precision) {
+            if (isLongitude) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch |= 1 << (4 - bit);
+                    minLng = mid;
+                } else {
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch |= 1 << (4 - bit);
+                    minLat = mid;
+                } else {
+                    maxLat = mid;
+                }
+            }
+            isLongitude = !isLongitude;
+
+            if (++bit == 5) {
+                sb.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return sb.toString();
+    }
+
+    // 영역을 덮는 geohash 셀 목록 (셀 수가 MAX_COVER_CELLS 이하인 가장 세밀한 정밀도 사용)
+    // 경도 180도를 넘는 영역은 호출하는 쪽에서 둘로 나눠서 호출
+    public static List<String> cover(double minLat, double minLng, double maxLat, double maxLng) {
+        for (int precision = MAX_PRECISION; precision >= 1; precision--) {
+            int lngBits = (5 * precision + 1) / 2;
+            int latBits = (5 * precision) / 2;
+            double cellWidth = 360.0 / (1L << lngBits);
+            double cellHeight = 180.0 / (1L << latBits);
+
+            long minCol = cellIndex(minLng + 180, cellWidth, lngBits);
+            long maxCol = cellIndex(maxLng + 180, cellWidth, lngBits);
+            long minRow = cellIndex(minLat + 90, cellHeight, latBits);
+            long maxRow = cellIndex(maxLat + 90, cellHeight, latBits);
+
+            if ((maxCol - minCol + 1) * (maxRow - minRow + 1) > MAX_COVER_CELLS) {
+                continue;
+            }
+
+            Set<String> cells = new LinkedHashSet<>();
+            for (long row = minRow; row <= maxRow; row++) {
+                for (long col = minCol; col <= maxCol; col++) {
+                    // 셀 중심 좌표로 셀 이름 계산
+                    double latitude = -90 + (row + 0.5) * cellHeight;
+                    double longitude = -180 + (col + 0.5) * cellWidth;
+                    cells.add(encode(latitude, longitude, precision));
+                }
+            }
+            return new ArrayList<>(cells);
+        }
+
+        // 지구 전체에 가까운 영역은 셀로 나누지 않음
+        return List.of("");
+    }
+
+    // 두 좌표 사이의 거리 (하버사인 공식, 미터 단위)
+    public static double distanceMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static long cellIndex(double offset, double cellSize, int bits) {
+        long index = (long) Math.floor(offset / cellSize);
+        return Math.max(0, Math.min(index, (1L << bits) - 1));
+    }
+}
@@ -0,0 +1,166 @@
+package com.sonkim.bookmarking.common.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// OG 태그 추출용 HTML 조회
+// 페이지 전체를 받지 않고 </head> 까지만(또는 최대 크기까지만) 읽어 head 부분만 파싱
+@Slf4j
+@Component
+public class HtmlHeadFetcher {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 3_000;
+    private static final int READ_TIMEOUT_MILLIS = 5_000;
+    // head 가 이보다 길면 여기까지만 읽음
+    private static final int MAX_BYTES = 512 * 1024;
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final int MAX_REDIRECTS = 5;
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0 Safari/537.36";
+
+    private static final byte[] HEAD_END = "</head".getBytes(StandardCharsets.US_ASCII);
+    private static final Pattern HEADER_CHARSET = Pattern.compile("charset=[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+    // <meta charset="..."> 또는 <meta http-equiv="Content-Type" content="text/html; charset=...">
+    private static final Pattern META_CHARSET =
+            Pattern.compile("<meta[^>]+charset\\s*=\\s*[\"']?([\\w.:-]+)", Pattern.CASE_INSENSITIVE);
+
+    public Document fetchHead(String url) throws IOException {
+        HttpURLConnection conn = open(url);
+        try (InputStream in = conn.getInputStream()) {
+            return parseHead(in, conn.getContentType(), conn.getURL().toString());
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    // 스트림에서 </head> 까지만 읽어 파싱 (응답 헤더의 Content-Type 은 charset 확인용)
+    static Document parseHead(InputStream in, String contentType, String baseUri) throws IOException {
+        byte[] buf = new byte[CHUNK_SIZE];
+        int length = 0;
+        int headEnd = -1;
+
+        while (length < MAX_BYTES) {
+            if (length == buf.length) {
+                buf = Arrays.copyOf(buf, Math.min(buf.length * 2, MAX_BYTES));
+            }
+            int read = in.read(buf, length, buf.length - length);
+            if (read == -1) {
+                break;
+            }
+
+            // 방금 읽은 부분과 이전 청크 끝이 걸쳐 있을 수 있으므로 태그 길이만큼 앞에서부터 검색
+            int from = Math.max(0, length - HEAD_END.length);
+            length += read;
+            headEnd = indexOfIgnoreCase(buf, length, from);
+            if (headEnd != -1) {
+                break;
+            }
+        }
+
+        int end = headEnd != -1 ? headEnd : length;
+        Charset charset = detectCharset(contentType, buf, end);
+        log.debug("HTML head 조회. URL: {}, 읽은 크기: {}B, head 끝 발견: {}, charset: {}",
+                baseUri, length, headEnd != -1, charset);
+
+        String html = new String(buf, 0, end, charset);
+        return Jsoup.parse(html, baseUri);
+    }
+
+    // 리다이렉트는 직접 따라감 (HttpURLConnection 은 http -> https 리다이렉트를 따라가지 않음)
+    private HttpURLConnection open(String url) throws IOException {
+        URL target = new URL(url);
+        for (int i = 0; i <= MAX_REDIRECTS; i++) {
+            HttpURLConnection conn = (HttpURLConnection) target.openConnection();
+            conn.setInstanceFollowRedirects(false);
+            conn.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+            conn.setReadTimeout(READ_TIMEOUT_MILLIS);
+            conn.setRequestProperty("User-Agent", USER_AGENT);
+            conn.setRequestProperty("Accept", "text/html,application/xhtml+xml");
+
+            int status = conn.getResponseCode();
+            if (status >= 300 && status < 400) {
+                String location = conn.getHeaderField("Location");
+                conn.disconnect();
+                if (location == null) {
+                    throw new IOException("리다이렉트 위치가 없습니다. status=" + status);
+                }
+                target = new URL(target, location);
+                continue;
+            }
+            if (status >= 400) {
+                conn.disconnect();
+                throw new HttpStatusException("HTML 조회 실패", status, target.toString());
+            }
+            return conn;
+        }
+        throw new IOException("리다이렉트가 너무 많습니다. url=" + url);
+    }
+
+    // 응답 헤더 -> BOM -> meta 태그 순으로 확인, 없으면 UTF-8
+    static Charset detectCharset(String contentType, byte[] buf, int length) {
+        if (contentType != null) {
+            Charset charset = toCharset(HEADER_CHARSET.matcher(contentType));
+            if (charset != null) {
+                return charset;
+            }
+        }
+
+        if (length >= 3 && (buf[0] & 0xFF) == 0xEF && (buf[1] & 0xFF) == 0xBB && (buf[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8;
+        }
+        if (length >= 2 && (buf[0] & 0xFF) == 0xFE && (buf[1] & 0xFF) == 0xFF) {
+            return StandardCharsets.UTF_16BE;
+        }
+        if (length >= 2 && (buf[0] & 0xFF) == 0xFF && (buf[1] & 0xFF) == 0xFE) {
+            return StandardCharsets.UTF_16LE;
+        }
+
+        // meta 태그는 ASCII 범위이므로 1바이트 문자셋으로 읽어서 검색
+        String ascii = new String(buf, 0, Math.min(length, 4096), StandardCharsets.ISO_8859_1);
+        Charset charset = toCharset(META_CHARSET.matcher(ascii));
+        return charset != null ? charset : StandardCharsets.UTF_8;
+    }
+
+    private static Charset toCharset(Matcher matcher) {
+        if (!matcher.find()) {
+            return null;
+        }
+        try {
+            return Charset.forName(matcher.group(1).trim());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    // buf[from, length) 에서 "</head" 위치 (대소문자 무시)
+    private static int indexOfIgnoreCase(byte[] buf, int length, int from) {
+        outer:
+        for (int i = from; i <= length - HEAD_END.length; i++) {
+            for (int j = 0; j < HEAD_END.length; j++) {
+                byte b = buf[i + j];
+                if (b >= 'A' && b <= 'Z') {
+                    b = (byte) (b + ('a' - 'A'));
+                }
+                if (b != HEAD_END[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -2,6 +2,7 @@ package com.sonkim.bookmarking.common.util;
 
 import com.sonkim.bookmarking.auth.token.dto.TokenDto;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -14,7 +15,16 @@ import java.util.Date;
 @Component
 public class JWTUtil {
 
+    // 검증된 Access Token 클레임 캐시 (서명 부분을 키로 사용, 토큰 만료 시각까지만 유지)
+    // 가득 차면 가장 오래 사용하지 않은 토큰부터 제거
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+    private static final long MAX_VERIFIED_TTL_MILLIS = 10 * 60 * 1000L;
+
     private final SecretKey secretKey;
+    // 파서는 스레드 안전하므로 한 번만 생성해서 재사용
+    private final JwtParser jwtParser;
+    private final LocalLruCache<String, VerifiedToken> verifiedClaims =
+            new LocalLruCache<>(MAX_VERIFIED_TOKENS, MAX_VERIFIED_TTL_MILLIS);
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -25,6 +35,9 @@ public class JWTUtil {
         this.secretKey = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
     // Access Token 생성
@@ -82,11 +95,40 @@ public class JWTUtil {
         return getPayload(token).get("category", String.class);
     }
 
+    // 서명, 만료를 한 번 검증한 뒤 클레임 반환 (검증에 성공한 토큰은 만료 전까지 다시 검증하지 않음)
+    public Claims getVerifiedClaims(String token) {
+        String key = signatureOf(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = key == null ? null : verifiedClaims.get(key);
+        // 서명만 같고 내용이 다른 토큰은 캐시를 사용하지 않음
+        if (cached != null && cached.token().equals(token)) {
+            return cached.claims();
+        }
+
+        Claims claims = getPayload(token);
+        long ttlMillis = Math.min(claims.getExpiration().getTime() - now, MAX_VERIFIED_TTL_MILLIS);
+        if (key != null && ttlMillis > 0) {
+            verifiedClaims.put(key, new VerifiedToken(token, claims), ttlMillis);
+        }
+        return claims;
+    }
+
+    // 토큰의 서명 부분 (header.payload.signature 형식이 아니면 null)
+    private static String signatureOf(String token) {
+        int index = token.lastIndexOf('.');
+        if (index < 0 || index == token.length() - 1) {
+            return null;
+        }
+        return token.substring(index + 1);
+    }
+
+    private record VerifiedToken(String token, Claims claims) {
+    }
+
     // 공통 토큰 페이로드 추출 로직
     private Claims getPayload(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
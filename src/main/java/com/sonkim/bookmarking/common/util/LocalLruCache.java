@@ -0,0 +1,121 @@
+package com.sonkim.bookmarking.common.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+// 서버 메모리에 두는 크기 제한 LRU 캐시
+// 최대 개수(또는 최대 무게)를 넘으면 가장 오래 사용하지 않은 항목부터 제거하고, 항목마다 유효시간이 지나면 조회되지 않음
+public class LocalLruCache<K, V> {
+
+    private final int maxSize;
+    private final long maxWeight;
+    private final ToLongFunction<V> weigher;
+    private final long ttlMillis;
+    private final Map<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+    public LocalLruCache(int maxSize, long ttlMillis) {
+        this(maxSize, Long.MAX_VALUE, value -> 0L, ttlMillis);
+    }
+
+    // 항목 크기가 제각각인 경우 (weigher: 항목의 대략적인 메모리 크기)
+    public LocalLruCache(int maxSize, long maxWeight, ToLongFunction<V> weigher, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.ttlMillis = ttlMillis;
+    }
+
+    // 값 조회 (없거나 만료되었으면 null)
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || entry.isExpired()) {
+            if (entry != null) {
+                remove(key);
+            }
+            missCount.incrementAndGet();
+            return null;
+        }
+
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    // 통계에 반영하지 않고 값 조회 (캐시된 값 갱신용)
+    public synchronized V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry != null && !entry.isExpired() ? entry.value : null;
+    }
+
+    public synchronized void put(K key, V value) {
+        put(key, value, ttlMillis);
+    }
+
+    // 기본 유효시간보다 짧게 유지해야 하는 항목 저장
+    public synchronized void put(K key, V value, long ttlMillis) {
+        long weight = weigher.applyAsLong(value);
+        remove(key);
+        entries.put(key, new Entry<>(value, weight, System.currentTimeMillis() + Math.min(ttlMillis, this.ttlMillis)));
+        totalWeight += weight;
+        evictOverflow();
+    }
+
+    public synchronized void invalidate(K key) {
+        remove(key);
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRatio() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void remove(K key) {
+        Entry<V> removed = entries.remove(key);
+        if (removed != null) {
+            totalWeight -= removed.weight;
+        }
+    }
+
+    // 가장 오래 사용하지 않은 항목부터 제거
+    private void evictOverflow() {
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while ((entries.size() > maxSize || totalWeight > maxWeight) && it.hasNext()) {
+            totalWeight -= it.next().weight;
+            it.remove();
+        }
+    }
+
+    private record Entry<V>(V value, long weight, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -24,17 +25,27 @@ import java.time.Duration;
 public class CoupangOgStrategy implements OgExtractorStrategy{
     private final GenericObjectPool<WebDriver> driverPool;
 
+    // 모든 Selenium 전략이 드라이버 풀 크기만큼의 동시 실행 제한을 함께 사용
     @Override
-    public boolean supports(String url) {
-        return url.contains("coupang.com");
+    public int maxConcurrency() {
+        return driverPool.getMaxTotal();
+    }
+
+    @Override
+    public String bulkheadName() {
+        return SeleniumDrivers.BULKHEAD_NAME;
+    }
+
+    @Override
+    public Set<String> supportedHosts() {
+        return Set.of("coupang.com");
     }
 
     @Override
     public BookmarkOGDto extract(String url) {
         log.info("Coupang URL 감지. 동적 콘텐츠 로딩 후 정보 추출");
-        WebDriver driver = null;
+        WebDriver driver = SeleniumDrivers.borrow(driverPool);
         try {
-            driver = driverPool.borrowObject();
             driver.get(url);
 
             WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -24,18 +25,28 @@ import java.util.Objects;
 public class InstagramOgStrategy implements OgExtractorStrategy {
     private final GenericObjectPool<WebDriver> driverPool;
 
+    // 모든 Selenium 전략이 드라이버 풀 크기만큼의 동시 실행 제한을 함께 사용
     @Override
-    public boolean supports(String url) {
-        return url.contains("instagram.com");
+    public int maxConcurrency() {
+        return driverPool.getMaxTotal();
+    }
+
+    @Override
+    public String bulkheadName() {
+        return SeleniumDrivers.BULKHEAD_NAME;
+    }
+
+    @Override
+    public Set<String> supportedHosts() {
+        return Set.of("instagram.com");
     }
 
     @Override
     public BookmarkOGDto extract(String url) {
         log.info("Instagram URL 감지. 동적 컨텐츠 로딩 후 추출");
-        WebDriver driver = null;
+        WebDriver driver = SeleniumDrivers.borrow(driverPool);
 
         try {
-            driver = driverPool.borrowObject();
             log.info("WebDriver 빌림 (borrowObject). 해시코드: {}", driver.hashCode());
 
             driver.get(url);
@@ -1,28 +1,27 @@
 package com.sonkim.bookmarking.common.util.OGStrategy;
 
+import com.sonkim.bookmarking.common.util.HtmlHeadFetcher;
 import com.sonkim.bookmarking.common.util.OGUtil;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.pool2.impl.GenericObjectPool;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
-import org.openqa.selenium.WebDriver;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.net.URL;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @Order(2)
 public class NaverBlogOgStrategy implements OgExtractorStrategy {
-    private final GenericObjectPool<WebDriver> driverPool;
+    private final HtmlHeadFetcher htmlHeadFetcher;
 
     @Override
-    public boolean supports(String url) {
-        return url.contains("blog.naver.com") || url.contains("m.blog.naver.com");
+    public Set<String> supportedHosts() {
+        return Set.of("blog.naver.com");
     }
 
     @Override
@@ -39,7 +38,7 @@ public class NaverBlogOgStrategy implements OgExtractorStrategy {
                 targetUrl = urlString.replaceFirst("blog.naver.com", "m.blog.naver.com");
             }
 
-            Document doc = Jsoup.connect(targetUrl).get();
+            Document doc = htmlHeadFetcher.fetchHead(targetUrl);
             return OGUtil.extractOgTags(doc);
 
         } catch (Exception e) {
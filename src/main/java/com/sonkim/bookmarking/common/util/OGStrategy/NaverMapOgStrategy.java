@@ -16,6 +16,7 @@ import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -24,17 +25,27 @@ import java.util.Objects;
 public class NaverMapOgStrategy implements OgExtractorStrategy{
     private final GenericObjectPool<WebDriver> driverPool;
 
+    // 모든 Selenium 전략이 드라이버 풀 크기만큼의 동시 실행 제한을 함께 사용
     @Override
-    public boolean supports(String url) {
-        return url.contains("map.naver.com");
+    public int maxConcurrency() {
+        return driverPool.getMaxTotal();
+    }
+
+    @Override
+    public String bulkheadName() {
+        return SeleniumDrivers.BULKHEAD_NAME;
+    }
+
+    @Override
+    public Set<String> supportedHosts() {
+        return Set.of("map.naver.com");
     }
 
     @Override
     public BookmarkOGDto extract(String url) {
         log.info("네이버 지도 URL 감지. 'entryIframe'을 이용하여 추출");
-        WebDriver driver = null;
+        WebDriver driver = SeleniumDrivers.borrow(driverPool);
         try {
-            driver = driverPool.borrowObject();
             log.info("WebDriver 빌림 (borrowObject). 해시코드: {}", driver.hashCode());
 
             driver.get(url);
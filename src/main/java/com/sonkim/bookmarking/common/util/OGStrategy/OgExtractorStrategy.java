@@ -2,7 +2,19 @@ package com.sonkim.bookmarking.common.util.OGStrategy;
 
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
 
+import java.util.Set;
+
 public interface OgExtractorStrategy {
-    boolean supports(String url);   // 전달된 url을 처리할 수 있는 전략인지 확인
+    Set<String> supportedHosts();   // 처리하는 호스트 (하위 도메인 포함, 비어 있으면 기본 전략)
     BookmarkOGDto extract(String url);   // HTML 추출
+
+    // 이 전략으로 동시에 추출할 수 있는 최대 개수 (WebDriver 를 쓰는 전략은 작게 설정)
+    default int maxConcurrency() {
+        return 16;
+    }
+
+    // 동시 실행 제한 이름 (같은 이름의 전략은 제한을 함께 사용)
+    default String bulkheadName() {
+        return getClass().getSimpleName();
+    }
 }
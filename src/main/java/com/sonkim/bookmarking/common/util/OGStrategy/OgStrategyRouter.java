@@ -0,0 +1,94 @@
+package com.sonkim.bookmarking.common.util.OGStrategy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.IDN;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// URL 호스트로 OG 추출 전략 선택
+// 시작할 때 전략별 호스트를 표로 만들어 두고, 요청 URL의 호스트를 한 번만 파싱해 뒤에서부터(하위 도메인을 떼어 가며) 조회
+// 예) m.blog.naver.com -> m.blog.naver.com, blog.naver.com(일치), naver.com, com
+@Slf4j
+@Component
+public class OgStrategyRouter {
+
+    private final Map<String, OgExtractorStrategy> strategiesByHost = new HashMap<>();
+    private final OgExtractorStrategy defaultStrategy;
+
+    // strategies 는 @Order 순으로 주입되므로 같은 호스트를 여러 전략이 지정하면 앞의 전략 사용
+    public OgStrategyRouter(List<OgExtractorStrategy> strategies) {
+        OgExtractorStrategy fallback = null;
+        for (OgExtractorStrategy strategy : strategies) {
+            if (strategy.supportedHosts().isEmpty()) {
+                if (fallback == null) {
+                    fallback = strategy;
+                }
+                continue;
+            }
+            for (String host : strategy.supportedHosts()) {
+                strategiesByHost.putIfAbsent(host.toLowerCase(Locale.ROOT), strategy);
+            }
+        }
+
+        if (fallback == null) {
+            throw new IllegalStateException("기본 OG 추출 전략이 없습니다.");
+        }
+        this.defaultStrategy = fallback;
+    }
+
+    public OgExtractorStrategy route(String url) {
+        String host = parseHost(url);
+        if (host == null) {
+            return defaultStrategy;
+        }
+
+        int from = 0;
+        while (from >= 0) {
+            OgExtractorStrategy strategy = strategiesByHost.get(host.substring(from));
+            if (strategy != null) {
+                return strategy;
+            }
+            int dot = host.indexOf('.', from);
+            from = dot < 0 ? -1 : dot + 1;
+        }
+        return defaultStrategy;
+    }
+
+    // 한글, 전각 문자 등이 들어간 호스트는 IDN(punycode) 으로 바꿔 비교 (예: ｙｏｕｔｕｂｅ.com -> youtube.com)
+    private static String parseHost(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            String host = uri.getHost();
+            if (host == null) {
+                // ASCII 가 아닌 호스트는 URI 가 호스트로 인식하지 못하므로 authority 에서 직접 꺼냄
+                host = hostFromAuthority(uri.getRawAuthority());
+                if (host == null) {
+                    return null;
+                }
+            }
+            host = IDN.toASCII(host, IDN.ALLOW_UNASSIGNED).toLowerCase(Locale.ROOT);
+            return host.endsWith(".") ? host.substring(0, host.length() - 1) : host;
+        } catch (IllegalArgumentException e) {
+            log.debug("URL 호스트를 파싱할 수 없어 기본 전략 사용. URL: {}", url);
+            return null;
+        }
+    }
+
+    // user@host:port 에서 host 부분
+    private static String hostFromAuthority(String authority) {
+        if (authority == null) {
+            return null;
+        }
+        String host = authority.substring(authority.lastIndexOf('@') + 1);
+        int colon = host.lastIndexOf(':');
+        if (colon >= 0 && colon > host.lastIndexOf(']')) {
+            host = host.substring(0, colon);
+        }
+        return host.isEmpty() ? null : host;
+    }
+}
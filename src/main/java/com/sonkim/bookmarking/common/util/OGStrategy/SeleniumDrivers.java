@@ -0,0 +1,30 @@
+package com.sonkim.bookmarking.common.util.OGStrategy;
+
+import com.sonkim.bookmarking.common.exception.TooManyRequestsException;
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.openqa.selenium.WebDriver;
+
+import java.util.NoSuchElementException;
+
+// WebDriver 를 쓰는 전략 공통 처리
+// 모든 Selenium 전략이 하나의 동시 실행 제한(드라이버 풀 최대 크기)을 함께 사용
+final class SeleniumDrivers {
+
+    static final String BULKHEAD_NAME = "Selenium";
+
+    private static final long RETRY_AFTER_SECONDS = 5L;
+
+    private SeleniumDrivers() {
+    }
+
+    // 드라이버 대여 (대기 시간 안에 빌리지 못하면 추출 실패가 아닌 요청 거절로 처리)
+    static WebDriver borrow(GenericObjectPool<WebDriver> driverPool) {
+        try {
+            return driverPool.borrowObject();
+        } catch (NoSuchElementException e) {
+            throw new TooManyRequestsException("링크 정보 추출 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("WebDriver 를 준비할 수 없습니다.", e);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -17,8 +19,8 @@ public class YoutubeOgStrategy implements OgExtractorStrategy{
     private final YoutubeService youtubeService;
 
     @Override
-    public boolean supports(String url) {
-        return url.contains("youtu.be") || url.contains("youtube.com");
+    public Set<String> supportedHosts() {
+        return Set.of("youtube.com", "youtu.be");
     }
 
     @Override
@@ -1,32 +1,212 @@
 package com.sonkim.bookmarking.common.util;
 
+import com.sonkim.bookmarking.common.exception.DegradedOgDataException;
+import com.sonkim.bookmarking.common.exception.RecentOgFailureException;
+import com.sonkim.bookmarking.common.exception.TooManyRequestsException;
 import com.sonkim.bookmarking.common.util.OGStrategy.OgExtractorStrategy;
+import com.sonkim.bookmarking.common.util.OGStrategy.OgStrategyRouter;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.HttpStatusException;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.net.MalformedURLException;
+import java.net.UnknownHostException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
+// OpenGraph 정보 조회
+// 캐시와 추출 조정은 정규화된 URL 기준으로 하고, 실제 추출은 사용자가 보낸 URL로 수행
+// 같은 URL을 동시에 요청하면 서버 안에서는 진행 중인 추출 결과를 함께 기다리고,
+// 서버 간에는 Redis 임대로 한 서버만 추출하도록 조정
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class OGUtil {
 
-    private final List<OgExtractorStrategy> strategies;
+    // 다른 서버의 추출 결과를 확인하는 간격
+    private static final long LEASE_POLL_MILLIS = 200L;
+
+    private final OgStrategyRouter strategyRouter;
+    private final OgDataCache ogDataCache;
+    private final ScrapeLimiter scrapeLimiter;
+    private final Executor ogExtractExecutor;
+
+    // 정규화된 URL별 진행 중인 추출
+    private final Map<String, CompletableFuture<BookmarkOGDto>> inFlight = new ConcurrentHashMap<>();
+    // 미리 갱신 중인 URL
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public OGUtil(OgStrategyRouter strategyRouter,
+                  OgDataCache ogDataCache,
+                  ScrapeLimiter scrapeLimiter,
+                  @Qualifier("ogExtractExecutor") Executor ogExtractExecutor) {
+        this.strategyRouter = strategyRouter;
+        this.ogDataCache = ogDataCache;
+        this.scrapeLimiter = scrapeLimiter;
+        this.ogExtractExecutor = ogExtractExecutor;
+    }
 
-    @Cacheable(value = "ogData", key = "#url")
     public BookmarkOGDto getOpenGraphData(String url) {
+        String key = UrlCanonicalizer.canonicalize(url);
+
+        OgDataCache.Entry cached = ogDataCache.get(key);
+        if (cached != null) {
+            if (cached.shouldRefreshEarly()) {
+                refreshAsync(key, url);
+            }
+            return unwrap(cached);
+        }
+
+        CompletableFuture<BookmarkOGDto> mine = new CompletableFuture<>();
+        CompletableFuture<BookmarkOGDto> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            BookmarkOGDto result = loadWithLease(key, url);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 임대를 잡은 서버만 추출하고, 나머지는 캐시에 결과가 올라오기를 기다림
+    private BookmarkOGDto loadWithLease(String key, String url) {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + ogDataCache.getLeaseMillis();
+
+        while (System.currentTimeMillis() < deadline) {
+            if (ogDataCache.tryAcquireLease(key, token)) {
+                try {
+                    return fetchAndStore(key, url);
+                } finally {
+                    ogDataCache.releaseLease(key, token);
+                }
+            }
+
+            OgDataCache.Entry cached = ogDataCache.get(key);
+            if (cached != null) {
+                return unwrap(cached);
+            }
+
+            try {
+                Thread.sleep(LEASE_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("OG 정보 추출 대기 중 인터럽트가 발생했습니다.");
+            }
+        }
+
+        // 임대를 잡은 서버가 응답하지 않는 경우 직접 추출
+        log.warn("다른 서버의 OG 추출이 끝나지 않아 직접 추출합니다. URL: {}", url);
+        return fetchAndStore(key, url);
+    }
+
+    // 만료 전에 백그라운드에서 갱신 (다른 서버가 갱신 중이면 건너뜀)
+    private void refreshAsync(String key, String url) {
+        if (inFlight.containsKey(key) || !refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            ogExtractExecutor.execute(() -> {
+                String token = UUID.randomUUID().toString();
+                try {
+                    if (ogDataCache.tryAcquireLease(key, token)) {
+                        try {
+                            fetchAndStore(key, url);
+                        } finally {
+                            ogDataCache.releaseLease(key, token);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("OG 정보 미리 갱신 실패. URL: {}, 원인: {}", url, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 추출 작업이 밀려 있으면 갱신하지 않고 만료 후 다시 추출
+            refreshing.remove(key);
+        }
+    }
+
+    // 다시 시도해도 같은 결과인 실패만 짧게 캐시 (미리 갱신하다 실패한 경우에는 기존 결과 유지)
+    private BookmarkOGDto fetchAndStore(String key, String url) {
         log.info(">>>> OG Data Caching... URL: {}", url);
-        return strategies.stream()
-                .filter(s -> s.supports(url))
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("지원하는 OG 추출 전략이 없습니다."))
-                .extract(url);
+        long start = System.currentTimeMillis();
+        BookmarkOGDto result;
+        try {
+            OgExtractorStrategy strategy = strategyRouter.route(url);
+            result = scrapeLimiter.run(strategy.bulkheadName(), strategy.maxConcurrency(),
+                    () -> strategy.extract(url));
+        } catch (TooManyRequestsException e) {
+            // 추출을 시도하지 않았으므로 실패로 저장하지 않음
+            throw e;
+        } catch (DegradedOgDataException e) {
+            // 대체 결과는 짧게만 저장 (미리 갱신 중이면 기존 결과 유지)
+            if (!refreshing.contains(key)) {
+                ogDataCache.putDegraded(key, e.getFallback());
+            }
+            return e.getFallback();
+        } catch (RuntimeException e) {
+            if (!refreshing.contains(key) && isPermanentFailure(e)) {
+                ogDataCache.putFailure(key);
+            }
+            throw e;
+        }
+        ogDataCache.put(key, result, System.currentTimeMillis() - start);
+        return result;
+    }
+
+    // 페이지가 없거나 잘못된 URL처럼 다시 시도해도 실패하는 경우
+    // 시간 초과, 연결 실패, 5xx, WebDriver 부족 등 일시적인 실패는 캐시하지 않고 다음 요청에서 다시 추출
+    private static boolean isPermanentFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusException statusException) {
+                int status = statusException.getStatusCode();
+                return status >= 400 && status < 500 && status != 408 && status != 429;
+            }
+            if (cause instanceof MalformedURLException || cause instanceof UnknownHostException
+                    || cause instanceof IllegalArgumentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 최근에 추출에 실패한 URL이면 다시 추출하지 않고 예외 발생
+    private static BookmarkOGDto unwrap(OgDataCache.Entry entry) {
+        if (entry.failed()) {
+            throw new RecentOgFailureException("정보를 추출할 수 없는 URL입니다. 잠시 후 다시 시도해주세요.");
+        }
+        return entry.data();
+    }
+
+    private static BookmarkOGDto await(CompletableFuture<BookmarkOGDto> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
     public static BookmarkOGDto extractOgTags(Document doc) {
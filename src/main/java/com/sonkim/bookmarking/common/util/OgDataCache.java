@@ -0,0 +1,189 @@
+package com.sonkim.bookmarking.common.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// OpenGraph 추출 결과 캐시
+// 서버 메모리(L1) -> Redis(L2) 순으로 조회하고, 키는 정규화된 URL(UrlCanonicalizer)을 사용
+// 추출에 실패한 URL도 짧게 저장해 같은 URL을 반복해서 추출하지 않도록 함
+// 추출에 걸린 시간을 함께 저장해 만료 직전의 인기 항목을 확률적으로 미리 갱신 (XFetch)
+// 추출 중인 URL은 임대(lease) 키로 표시해 여러 서버가 같은 URL을 동시에 추출하지 않도록 함
+@Slf4j
+@Component
+public class OgDataCache {
+
+    private static final String DATA_KEY_PREFIX = "OG:DATA:";
+    private static final String LEASE_KEY_PREFIX = "OG:LEASE:";
+
+    private static final long TTL_MILLIS = TimeUnit.HOURS.toMillis(12);
+    // 추출 실패 결과 유지 시간
+    private static final long FAILURE_TTL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+    // 외부 API 장애 등으로 일부 정보만 얻은 결과 유지 시간
+    private static final long DEGRADED_TTL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    // 추출 서버가 중간에 죽어도 이 시간이 지나면 다른 서버가 추출 가능
+    private static final long LEASE_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    // 1보다 크면 더 일찍, 작으면 더 늦게 갱신
+    private static final double EARLY_REFRESH_BETA = 1.0;
+
+    private static final int MAX_LOCAL_ENTRIES = 5_000;
+    // L1 최대 크기 (문자열 길이 기준 대략 16MB)
+    private static final long MAX_LOCAL_WEIGHT = 16L * 1024 * 1024;
+    // 다른 서버에서 갱신된 결과를 늦어도 이 시간 안에 반영
+    private static final long LOCAL_TTL_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    // 내가 잡은 임대만 해제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LocalLruCache<String, Entry> localCache =
+            new LocalLruCache<>(MAX_LOCAL_ENTRIES, MAX_LOCAL_WEIGHT, OgDataCache::weigh, LOCAL_TTL_MILLIS);
+
+    private final AtomicLong redisHitCount = new AtomicLong();
+    private final AtomicLong redisMissCount = new AtomicLong();
+    private final AtomicLong failureHitCount = new AtomicLong();
+
+    public OgDataCache(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // 캐시 조회 (없거나 읽을 수 없으면 null)
+    public Entry get(String key) {
+        Entry entry = localCache.get(key);
+        if (entry == null) {
+            entry = getFromRedis(key);
+            if (entry == null) {
+                redisMissCount.incrementAndGet();
+                return null;
+            }
+            redisHitCount.incrementAndGet();
+            localCache.put(key, entry, entry.expiresAt() - System.currentTimeMillis());
+        }
+
+        if (entry.failed()) {
+            failureHitCount.incrementAndGet();
+        }
+        return entry;
+    }
+
+    // 추출 결과 저장 (fetchMillis: 추출에 걸린 시간)
+    public void put(String key, BookmarkOGDto data, long fetchMillis) {
+        store(key, new Entry(data, fetchMillis, System.currentTimeMillis() + TTL_MILLIS), TTL_MILLIS);
+    }
+
+    // 일부 정보만 얻은 결과 저장 (미리 갱신하지 않고 만료 후 다시 추출)
+    public void putDegraded(String key, BookmarkOGDto data) {
+        store(key, new Entry(data, 0, System.currentTimeMillis() + DEGRADED_TTL_MILLIS), DEGRADED_TTL_MILLIS);
+    }
+
+    // 추출 실패 저장
+    public void putFailure(String key) {
+        store(key, new Entry(null, 0, System.currentTimeMillis() + FAILURE_TTL_MILLIS), FAILURE_TTL_MILLIS);
+    }
+
+    // 추출 임대 획득 (다른 서버가 이미 추출 중이면 false)
+    public boolean tryAcquireLease(String key, String token) {
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY_PREFIX + key, token, LEASE_MILLIS, TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    public void releaseLease(String key, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + key), token);
+    }
+
+    public long getLeaseMillis() {
+        return LEASE_MILLIS;
+    }
+
+    @Scheduled(fixedRate = 10 * 60 * 1000L)
+    public void logStats() {
+        long localHits = localCache.getHitCount();
+        long localMisses = localCache.getMissCount();
+        long redisHits = redisHitCount.get();
+        long redisMisses = redisMissCount.get();
+        if (localHits + localMisses == 0) {
+            return;
+        }
+
+        log.info("OG 캐시 통계 - 메모리 적중률: {}% ({}/{}), Redis 적중률: {}% ({}/{}), 실패 캐시 적중: {}, 메모리 사용: {}건 / {}KB",
+                Math.round(localCache.getHitRatio() * 100), localHits, localHits + localMisses,
+                ratio(redisHits, redisMisses), redisHits, redisHits + redisMisses,
+                failureHitCount.get(), localCache.size(), localCache.weight() / 1024);
+    }
+
+    private Entry getFromRedis(String key) {
+        String json = stringRedisTemplate.opsForValue().get(DATA_KEY_PREFIX + key);
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, Entry.class);
+        } catch (JsonProcessingException e) {
+            log.warn("OG 캐시 항목을 읽을 수 없어 무시합니다. key: {}", key);
+            return null;
+        }
+    }
+
+    private void store(String key, Entry entry, long ttlMillis) {
+        localCache.put(key, entry, ttlMillis);
+        try {
+            stringRedisTemplate.opsForValue().set(DATA_KEY_PREFIX + key, objectMapper.writeValueAsString(entry),
+                    ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            log.warn("OG 캐시 저장 실패. key: {}", key, e);
+        }
+    }
+
+    private static long ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0 : Math.round(hits * 100.0 / total);
+    }
+
+    // 문자열 길이 합(UTF-16 기준 2바이트) + 키/객체 오버헤드 대략값
+    private static long weigh(Entry entry) {
+        long weight = 256;
+        BookmarkOGDto data = entry.data();
+        if (data != null) {
+            weight += 2L * (length(data.getTitle()) + length(data.getDescription()) + length(data.getImage()));
+        }
+        return weight;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    // data 가 null 이면 추출 실패 항목
+    public record Entry(BookmarkOGDto data, long fetchMillis, long expiresAt) {
+
+        public boolean failed() {
+            return data == null;
+        }
+
+        // 만료가 가까울수록, 추출이 오래 걸렸던 항목일수록 미리 갱신할 확률이 높아짐
+        public boolean shouldRefreshEarly() {
+            if (failed()) {
+                return false;
+            }
+            double random = 1.0 - ThreadLocalRandom.current().nextDouble();    // (0, 1]
+            long now = System.currentTimeMillis();
+            return now - fetchMillis * EARLY_REFRESH_BETA * Math.log(random) >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.sonkim.bookmarking.common.util;
+
+import com.sonkim.bookmarking.common.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// OG 추출 동시 실행 제한
+// 전략(사이트)별로 동시 실행 수와 대기열 길이를 따로 제한해, 한 사이트로 요청이 몰려도 다른 사이트 추출은 영향을 받지 않도록 함
+// WebDriver 를 쓰는 전략들은 드라이버 풀을 함께 쓰므로 하나의 제한(풀 최대 크기)을 공유
+// 대기열이 가득 찼거나 정해진 시간 안에 차례가 오지 않으면 바로 거절(429)
+// 전략별 대기열 길이, 실행 수, 대기/추출 시간, 거절 수는 og.scrape.* 지표로 노출 (/actuator/metrics)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScrapeLimiter {
+
+    // 실행 대기 중인 요청 수 한도 (동시 실행 수의 배수)
+    private static final int QUEUE_FACTOR = 4;
+    private static final long MAX_WAIT_MILLIS = 5_000L;
+    private static final long RETRY_AFTER_SECONDS = 5L;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+
+    public <T> T run(String name, int maxConcurrency, Supplier<T> task) {
+        Bulkhead bulkhead = bulkheads.computeIfAbsent(name, key -> new Bulkhead(key, maxConcurrency, meterRegistry));
+        bulkhead.acquire();
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            bulkhead.runTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            bulkhead.semaphore.release();
+        }
+    }
+
+    @Scheduled(fixedRate = 10 * 60 * 1000L)
+    public void logStats() {
+        bulkheads.forEach((name, bulkhead) -> {
+            long acquired = bulkhead.waitTimer.count();
+            long rejected = (long) bulkhead.rejectedCounter.count();
+            if (acquired == 0 && rejected == 0) {
+                return;
+            }
+            log.info("OG 추출 동시 실행 통계 [{}] - 실행 중: {}/{}, 대기 중: {}, 처리: {}, 거절: {}, 평균 대기: {}ms, 평균 추출: {}ms",
+                    name, bulkhead.running(), bulkhead.maxConcurrency, bulkhead.waiting.get(), acquired, rejected,
+                    (long) bulkhead.waitTimer.mean(TimeUnit.MILLISECONDS),
+                    (long) bulkhead.runTimer.mean(TimeUnit.MILLISECONDS));
+        });
+    }
+
+    private static final class Bulkhead {
+        private final String name;
+        private final int maxConcurrency;
+        private final int maxWaiting;
+        private final Semaphore semaphore;
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private final Timer waitTimer;
+        private final Timer runTimer;
+        private final Counter rejectedCounter;
+
+        Bulkhead(String name, int maxConcurrency, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.maxConcurrency = maxConcurrency;
+            this.maxWaiting = maxConcurrency * QUEUE_FACTOR;
+            this.semaphore = new Semaphore(maxConcurrency, true);
+
+            Gauge.builder("og.scrape.queue.depth", waiting, AtomicInteger::get)
+                    .description("실행 차례를 기다리는 OG 추출 요청 수")
+                    .tag("strategy", name)
+                    .register(meterRegistry);
+            Gauge.builder("og.scrape.active", this, Bulkhead::running)
+                    .description("실행 중인 OG 추출 수")
+                    .tag("strategy", name)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("og.scrape.wait")
+                    .description("OG 추출 실행 차례를 기다린 시간")
+                    .tag("strategy", name)
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry);
+            this.runTimer = Timer.builder("og.scrape.run")
+                    .description("OG 추출 실행 시간")
+                    .tag("strategy", name)
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("og.scrape.rejected")
+                    .description("대기열이 가득 찼거나 대기 시간이 지나 거절된 OG 추출 요청 수")
+                    .tag("strategy", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire() {
+            long start = System.nanoTime();
+            try {
+                // 시간 제한이 있는 tryAcquire 는 공정성을 지키므로 먼저 기다리던 요청을 앞지르지 않음
+                if (!semaphore.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                    if (waiting.incrementAndGet() > maxWaiting) {
+                        waiting.decrementAndGet();
+                        throw reject();
+                    }
+                    try {
+                        if (!semaphore.tryAcquire(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                            throw reject();
+                        }
+                    } finally {
+                        waiting.decrementAndGet();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject();
+            }
+
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        int running() {
+            return maxConcurrency - semaphore.availablePermits();
+        }
+
+        private TooManyRequestsException reject() {
+            rejectedCounter.increment();
+            log.warn("OG 추출 요청 거절 [{}] - 실행 중: {}, 대기 중: {}", name, maxConcurrency, waiting.get());
+            return new TooManyRequestsException("링크 정보 추출 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.sonkim.bookmarking.common.util;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Locale;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+
+// 같은 페이지를 가리키는 URL을 하나의 캐시 키로 정규화
+// 스킴/호스트 소문자, www. 및 m. 접두사 제거, 기본 포트·fragment·끝 슬래시 제거, 추적용 파라미터 제거 후 정렬
+// 유튜브 단축/쇼츠 URL은 watch?v= 형태로 통일
+public class UrlCanonicalizer {
+
+    // 페이지 내용과 무관한 추적용 파라미터
+    private static final Set<String> TRACKING_PARAMS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "igshid", "igsh", "si", "feature", "ref", "ref_src", "ref_url",
+            "spm", "mc_cid", "mc_eid", "_ga");
+
+    private UrlCanonicalizer() {
+    }
+
+    // 정규화할 수 없는 URL이면 앞뒤 공백만 제거해 반환
+    public static String canonicalize(String url) {
+        String trimmed = url.trim();
+        URI uri;
+        try {
+            uri = new URI(trimmed);
+        } catch (URISyntaxException e) {
+            return trimmed;
+        }
+
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            return trimmed;
+        }
+
+        String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        String host = stripHostPrefix(uri.getHost().toLowerCase(Locale.ROOT));
+
+        String videoId = youtubeVideoId(host, trimmed);
+        if (videoId != null) {
+            return "https://youtube.com/watch?v=" + videoId;
+        }
+
+        StringBuilder sb = new StringBuilder(scheme).append("://").append(host);
+        int port = uri.getPort();
+        if (port != -1 && !(port == 80 && scheme.equals("http")) && !(port == 443 && scheme.equals("https"))) {
+            sb.append(':').append(port);
+        }
+
+        String path = uri.getRawPath();
+        if (path != null) {
+            while (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            sb.append(path);
+        }
+
+        String query = canonicalQuery(uri.getRawQuery());
+        if (!query.isEmpty()) {
+            sb.append('?').append(query);
+        }
+        return sb.toString();
+    }
+
+    private static String stripHostPrefix(String host) {
+        if (host.startsWith("www.")) {
+            return host.substring(4);
+        }
+        if (host.startsWith("m.")) {
+            return host.substring(2);
+        }
+        return host;
+    }
+
+    private static String youtubeVideoId(String host, String url) {
+        if (!host.equals("youtube.com") && !host.equals("youtu.be")) {
+            return null;
+        }
+        String videoId = YoutubeUrlUtil.extractVideoId(url);
+        return videoId == null || videoId.isBlank() ? null : videoId;
+    }
+
+    // 추적용 파라미터를 빼고 이름순으로 정렬
+    private static String canonicalQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        TreeSet<String> params = new TreeSet<>();
+        for (String param : rawQuery.split("&")) {
+            if (param.isEmpty()) {
+                continue;
+            }
+            String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+            if (name.startsWith("utm_") || TRACKING_PARAMS.contains(name)) {
+                continue;
+            }
+            params.add(param);
+        }
+
+        StringJoiner joiner = new StringJoiner("&");
+        params.forEach(joiner::add);
+        return joiner.toString();
+    }
+}
@@ -1,11 +1,15 @@
 package com.sonkim.bookmarking.domain.bookmark.controller;
 
 import com.sonkim.bookmarking.auth.entity.UserDetailsImpl;
+import com.sonkim.bookmarking.common.exception.RecentOgFailureException;
+import com.sonkim.bookmarking.common.exception.TooManyRequestsException;
 import com.sonkim.bookmarking.common.s3.dto.PresignedUrlDto;
 import com.sonkim.bookmarking.common.s3.service.S3Service;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkResponseDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkUpdateDto;
+import com.sonkim.bookmarking.domain.bookmark.dto.OgJobDto;
 import com.sonkim.bookmarking.domain.bookmark.service.BookmarkService;
+import com.sonkim.bookmarking.domain.bookmark.service.OgJobService;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
 import com.sonkim.bookmarking.common.util.OGUtil;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,9 +19,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "북마크 관리", description = "개별 북마크 조회, 수정, 삭제 및 OpenGraph 정보 추출 API")
 @Slf4j
@@ -28,6 +35,7 @@ public class BookmarkController {
 
     private final BookmarkService bookmarkService;
     private final OGUtil ogUtil;
+    private final OgJobService ogJobService;
     private final S3Service s3Service;
 
     @Operation(summary = "특정 북마크 상세 정보 조회", description = "특정 북마크의 상세 정보와 좋아요 개수를 조회합니다.")
@@ -76,13 +84,18 @@ public class BookmarkController {
     @Operation(summary = "URL의 OpenGraph 정보 추출", description = "북마크로 등록할 URL을 보내면 해당 페이지의 제목, 설명, 대표 이미지(OG 정보)를 미리 추출하여 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "정보 추출 성공"),
-            @ApiResponse(responseCode = "404", description = "정보를 추출할 수 없거나 유효하지 않은 URL")
+            @ApiResponse(responseCode = "404", description = "정보를 추출할 수 없거나 유효하지 않은 URL"),
+            @ApiResponse(responseCode = "409", description = "최근에 정보 추출에 실패한 URL (잠시 후 다시 시도)"),
+            @ApiResponse(responseCode = "429", description = "추출 요청이 많아 거절됨 (Retry-After 헤더 참고)")
     })
     @GetMapping("/og-info")
     public ResponseEntity<BookmarkOGDto> getBookmarkInformation(@RequestParam String url) {
         try {
             BookmarkOGDto info = ogUtil.getOpenGraphData(url);
             return ResponseEntity.ok(info);
+        } catch (TooManyRequestsException | RecentOgFailureException | IllegalArgumentException e) {
+            // 요청 거절(429), 최근 추출 실패(409), 잘못된 URL(400)은 그대로 응답
+            throw e;
         } catch (Exception e) {
             // 🔽 🚨 중요: 발생한 예외(e)를 함께 로깅하여 원인을 파악합니다.
             log.error("OG 정보 추출 중 컨트롤러에서 에러 발생. URL: {}", url, e);
@@ -92,6 +105,41 @@ public class BookmarkController {
         }
     }
 
+    @Operation(summary = "OpenGraph 정보 추출 작업 등록", description = "URL의 OG 정보 추출을 백그라운드에서 시작하고 작업 ID를 바로 반환합니다. 결과는 작업 조회 또는 SSE 구독으로 받습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "작업 등록 성공"),
+            @ApiResponse(responseCode = "400", description = "URL 누락"),
+            @ApiResponse(responseCode = "429", description = "추출 요청이 많아 작업을 등록할 수 없음")
+    })
+    @PostMapping("/og-jobs")
+    public ResponseEntity<OgJobDto> submitOgJob(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                @RequestParam String url) {
+        OgJobDto job = ogJobService.submit(userDetails.getId(), url);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    @Operation(summary = "OpenGraph 정보 추출 작업 조회", description = "작업 상태(PENDING, COMPLETED, FAILED)와 완료된 경우 추출 결과를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/og-jobs/{jobId}")
+    public ResponseEntity<OgJobDto> getOgJob(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                             @PathVariable("jobId") String jobId) {
+        return ResponseEntity.ok(ogJobService.getJob(userDetails.getId(), jobId));
+    }
+
+    @Operation(summary = "OpenGraph 정보 추출 결과 구독 (SSE)", description = "작업이 끝나면 completed 또는 failed 이벤트로 결과를 한 번 전송하고 연결을 종료합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping(value = "/og-jobs/{jobId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOgJob(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                  @PathVariable("jobId") String jobId) {
+        return ogJobService.subscribe(userDetails.getId(), jobId);
+    }
+
     @Operation(summary = "북마크 이미지 업로드를 위한 Pre-signed URL 발급")
     @GetMapping("/upload-url")
     public ResponseEntity<PresignedUrlDto> getBookmarkPreSignedUrl(
@@ -6,7 +6,13 @@ import com.sonkim.bookmarking.common.dto.CursorResultDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkRequestDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkResponseDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkSearchCond;
+import com.sonkim.bookmarking.domain.bookmark.dto.BoundingBox;
+import com.sonkim.bookmarking.domain.bookmark.enums.BookmarkSortType;
+import com.sonkim.bookmarking.domain.bookmark.enums.TagMatchType;
+import com.sonkim.bookmarking.domain.bookmark.dto.MapClusterDto;
+import com.sonkim.bookmarking.domain.bookmark.service.BookmarkClusterService;
 import com.sonkim.bookmarking.domain.bookmark.service.BookmarkService;
+import com.sonkim.bookmarking.domain.bookmark.util.MapClusterEncoder;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,11 +22,14 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "그룹 북마크 관리", description = "그룹 내 북마크 생성 및 조회 API")
 @Slf4j
 @RequiredArgsConstructor
@@ -29,6 +38,7 @@ import org.springframework.web.bind.annotation.*;
 public class TeamBookmarkController {
 
     private final BookmarkService bookmarkService;
+    private final BookmarkClusterService bookmarkClusterService;
 
     @Operation(summary = "그룹에 북마크 등록", description = "특정 그룹에 새로운 북마크를 등록합니다. EDITOR 이상의 권한이 필요합니다.")
     @ApiResponses({
@@ -50,7 +60,12 @@ public class TeamBookmarkController {
     @Operation(summary = "그룹 내 모든 북마크 조회 (커서 페이징)",
             description = "특정 그룹에 속한 모든 북마크를 페이징하여 조회합니다.",
             parameters = {
-                    @Parameter(name = "cursor", description = "다음 페이지를 위한 커서 ID(마지막으로 조회한 북마크 ID, 첫 페이지는 null)"),
+                    @Parameter(name = "tagIds", description = "필터링할 태그 ID 목록"),
+                    @Parameter(name = "tagMatch", description = "태그 결합 방식 (ALL: 모두 포함, ANY: 하나라도 포함, 기본값 ALL)"),
+                    @Parameter(name = "excludeTagIds", description = "제외할 태그 ID 목록"),
+                    @Parameter(name = "sort", description = "정렬 기준 (LATEST: 최신순, MOST_LIKED: 좋아요 많은 순, TITLE_ASC: 제목순, RELEVANCE: 검색어 관련도순, 기본값 LATEST)"),
+                    @Parameter(name = "cursor", description = "다음 페이지를 위한 커서 ID(마지막으로 조회한 북마크 ID, 첫 페이지는 null, 최신순에서만 사용 가능)"),
+                    @Parameter(name = "cursorToken", description = "다음 페이지를 위한 커서 (이전 응답의 nextCursorToken, 모든 정렬에서 사용 가능)"),
                     @Parameter(name = "size", description = "한 페이지당 항목 수")
             })
     @ApiResponse(responseCode = "200", description = "북마크 목록 조회 성공")
@@ -60,25 +75,39 @@ public class TeamBookmarkController {
             @PathVariable("groupId") Long groupId,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false) TagMatchType tagMatch,
+            @RequestParam(required = false) List<Long> excludeTagIds,
             @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) BookmarkSortType sort,
             @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursorToken,
             @RequestParam(required = false, defaultValue = "10") int size
     ) {
         // 검색 조건 DTO 생성
         BookmarkSearchCond cond = BookmarkSearchCond.builder()
                 .keyword(keyword)
                 .tagId(tagId)
+                .tagIds(tagIds)
+                .tagMatch(tagMatch)
+                .excludeTagIds(excludeTagIds)
+                .sort(sort)
                 .categoryId(categoryId)
                 .build();
 
-        CursorResultDto<BookmarkResponseDto> bookmarkPage = bookmarkService.searchBookmarks(userDetails.getId(), groupId, cond, cursor, size);
+        CursorResultDto<BookmarkResponseDto> bookmarkPage = bookmarkService.searchBookmarks(userDetails.getId(), groupId, cond, cursor, cursorToken, size);
         return ResponseEntity.ok(bookmarkPage);
     }
 
     @Operation(summary = "지도 표시용 북마크 목록 조회 (필터링, 커서 페이징)",
             description = "특정 그룹에서 위치 정보가 있는 북마크를 조건(카테고리, 키워드, 태그)에 따라 필터링하여 조회합니다.",
             parameters = {
-                    @Parameter(name = "cursor", description = "다음 페이지를 위한 커서 ID(마지막으로 조회한 북마크 ID, 첫 페이지는 null)"),
+                    @Parameter(name = "tagIds", description = "필터링할 태그 ID 목록"),
+                    @Parameter(name = "tagMatch", description = "태그 결합 방식 (ALL: 모두 포함, ANY: 하나라도 포함, 기본값 ALL)"),
+                    @Parameter(name = "excludeTagIds", description = "제외할 태그 ID 목록"),
+                    @Parameter(name = "sort", description = "정렬 기준 (LATEST: 최신순, MOST_LIKED: 좋아요 많은 순, TITLE_ASC: 제목순, RELEVANCE: 검색어 관련도순, 기본값 LATEST)"),
+                    @Parameter(name = "cursor", description = "다음 페이지를 위한 커서 ID(마지막으로 조회한 북마크 ID, 첫 페이지는 null, 최신순에서만 사용 가능)"),
+                    @Parameter(name = "cursorToken", description = "다음 페이지를 위한 커서 (이전 응답의 nextCursorToken, 모든 정렬에서 사용 가능)"),
                     @Parameter(name = "size", description = "한 페이지당 항목 수")
             })
     @GetMapping("/{groupId}/bookmarks/map")
@@ -88,18 +117,118 @@ public class TeamBookmarkController {
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long categoryId,
             @RequestParam(required = false) Long tagId,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false) TagMatchType tagMatch,
+            @RequestParam(required = false) List<Long> excludeTagIds,
+            @RequestParam(required = false) BookmarkSortType sort,
             @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursorToken,
             @RequestParam(required = false, defaultValue = "10") int size
     ) {
         // 검색 조건 DTO 생성
         BookmarkSearchCond cond = BookmarkSearchCond.builder()
                 .keyword(keyword)
                 .tagId(tagId)
+                .tagIds(tagIds)
+                .tagMatch(tagMatch)
+                .excludeTagIds(excludeTagIds)
+                .sort(sort)
                 .categoryId(categoryId)
                 .forMap(true)
                 .build();
 
-        CursorResultDto<BookmarkResponseDto> bookmarks = bookmarkService.searchBookmarks(userDetails.getId(), groupId, cond, cursor, size);
+        CursorResultDto<BookmarkResponseDto> bookmarks = bookmarkService.searchBookmarks(userDetails.getId(), groupId, cond, cursor, cursorToken, size);
         return ResponseEntity.ok(bookmarks);
     }
+
+    @Operation(summary = "지도 화면 영역 내 북마크 조회",
+            description = "지도에 보이는 영역(남서쪽, 북동쪽 좌표) 안에 위치한 북마크를 최신순으로 조회합니다. " +
+                    "minLongitude 가 maxLongitude 보다 크면 경도 180도를 넘는 영역으로 처리합니다.",
+            parameters = {
+                    @Parameter(name = "minLatitude", description = "영역 남쪽 위도"),
+                    @Parameter(name = "minLongitude", description = "영역 서쪽 경도"),
+                    @Parameter(name = "maxLatitude", description = "영역 북쪽 위도"),
+                    @Parameter(name = "maxLongitude", description = "영역 동쪽 경도"),
+                    @Parameter(name = "size", description = "최대 조회 개수 (최대 1000)")
+            })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "북마크 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표 범위")
+    })
+    @GetMapping("/{groupId}/bookmarks/map/bbox")
+    public ResponseEntity<List<BookmarkResponseDto>> getBookmarksInBoundingBox(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("groupId") Long groupId,
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false, defaultValue = "300") int size
+    ) {
+        BoundingBox box = new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<BookmarkResponseDto> bookmarks = bookmarkService.getBookmarksInBoundingBox(
+                userDetails.getId(), groupId, categoryId, box, size);
+        return ResponseEntity.ok(bookmarks);
+    }
+
+    @Operation(summary = "가까운 북마크 조회",
+            description = "기준 좌표에서 가까운 순서대로 위치 정보가 있는 북마크를 조회합니다.",
+            parameters = {
+                    @Parameter(name = "latitude", description = "기준 위도"),
+                    @Parameter(name = "longitude", description = "기준 경도"),
+                    @Parameter(name = "k", description = "조회 개수 (최대 100)")
+            })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "북마크 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 좌표")
+    })
+    @GetMapping("/{groupId}/bookmarks/map/nearest")
+    public ResponseEntity<List<BookmarkResponseDto>> getNearestBookmarks(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("groupId") Long groupId,
+            @RequestParam double latitude,
+            @RequestParam double longitude,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false, defaultValue = "10") int k
+    ) {
+        List<BookmarkResponseDto> bookmarks = bookmarkService.getNearestBookmarks(
+                userDetails.getId(), groupId, categoryId, latitude, longitude, k);
+        return ResponseEntity.ok(bookmarks);
+    }
+
+    @Operation(summary = "지도 클러스터 조회",
+            description = "줌 레벨에 맞게 묶인 북마크 클러스터(중심 좌표, 개수)를 지도 화면 영역 단위로 조회합니다. " +
+                    "응답은 application/octet-stream 바이너리이며 형식은 다음과 같습니다. " +
+                    "[byte 버전=1][varint 줌][varint 개수 n], 이어서 열 단위로 " +
+                    "n x zigzag varint 위도*1e6 차이값, n x zigzag varint 경도*1e6 차이값, " +
+                    "n x varint 북마크 수, n x varint 북마크 ID(북마크 수가 1일 때만, 아니면 0)",
+            parameters = {
+                    @Parameter(name = "zoom", description = "지도 줌 레벨 (0 ~ 18, 그 이상은 18로 처리)"),
+                    @Parameter(name = "minLatitude", description = "영역 남쪽 위도"),
+                    @Parameter(name = "minLongitude", description = "영역 서쪽 경도"),
+                    @Parameter(name = "maxLatitude", description = "영역 북쪽 위도"),
+                    @Parameter(name = "maxLongitude", description = "영역 동쪽 경도")
+            })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "클러스터 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 줌 레벨 또는 좌표 범위")
+    })
+    @GetMapping(value = "/{groupId}/bookmarks/map/clusters", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getBookmarkClusters(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("groupId") Long groupId,
+            @RequestParam int zoom,
+            @RequestParam double minLatitude,
+            @RequestParam double minLongitude,
+            @RequestParam double maxLatitude,
+            @RequestParam double maxLongitude
+    ) {
+        BoundingBox box = new BoundingBox(minLatitude, minLongitude, maxLatitude, maxLongitude);
+        List<MapClusterDto> clusters = bookmarkClusterService.getClusters(groupId, zoom, box);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(MapClusterEncoder.encode(Math.min(zoom, BookmarkClusterService.MAX_ZOOM), clusters));
+    }
 }
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -19,6 +20,10 @@ public class BookmarkResponseDto {
     private String title;
     private String description;
     private String imageUrl;
+    // 이미지 로딩 전 표시할 흐린 미리보기 (BlurHash)
+    private String imagePlaceholder;
+    // 너비(px)별 이미지 URL (srcset 용, 단일 크기 이미지면 null)
+    private Map<Integer, String> imageVariants;
     private Double latitude;
     private Double longitude;
     private LocalDateTime createdAt;
@@ -40,6 +45,7 @@ public class BookmarkResponseDto {
                 .url(bookmark.getUrl())
                 .title(bookmark.getTitle())
                 .description(bookmark.getDescription())
+                .imagePlaceholder(bookmark.getImagePlaceholder())
                 .latitude(bookmark.getLatitude())
                 .longitude(bookmark.getLongitude())
                 .createdAt(bookmark.getCreatedAt())
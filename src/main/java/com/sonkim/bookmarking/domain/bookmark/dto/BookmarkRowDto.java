@@ -0,0 +1,25 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 목록 조회용 북마크 프로젝션 (엔티티를 거치지 않고 한 번의 쿼리로 조회)
+@Data
+@AllArgsConstructor
+public class BookmarkRowDto {
+    private Long bookmarkId;
+    private String url;
+    private String title;
+    private String description;
+    private String imageKey;
+    private String originalImageUrl;
+    private String imagePlaceholder;
+    private Boolean imageVariants;
+    private Double latitude;
+    private Double longitude;
+    private LocalDateTime createdAt;
+    private Long likesCount;
+    private Long categoryId;
+}
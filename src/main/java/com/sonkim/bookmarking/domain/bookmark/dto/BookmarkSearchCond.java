@@ -1,10 +1,16 @@
 package com.sonkim.bookmarking.domain.bookmark.dto;
 
+import com.sonkim.bookmarking.domain.bookmark.enums.BookmarkSortType;
+import com.sonkim.bookmarking.domain.bookmark.enums.TagMatchType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -14,4 +20,35 @@ public class BookmarkSearchCond {
     private Long categoryId;
     private Boolean forMap;
     private Long tagId;
+
+    // 여러 태그로 필터링할 때 사용 (tagId 와 함께 지정 가능)
+    private List<Long> tagIds;
+    // 포함 태그 결합 방식 (기본값 ALL)
+    private TagMatchType tagMatch;
+    // 결과에서 제외할 태그
+    private List<Long> excludeTagIds;
+    // 정렬 기준 (기본값 LATEST)
+    private BookmarkSortType sort;
+
+    public BookmarkSortType getSortOrDefault() {
+        return sort != null ? sort : BookmarkSortType.LATEST;
+    }
+
+    // tagId 와 tagIds 를 합친 포함 태그 목록
+    public Set<Long> getIncludedTagIds() {
+        Set<Long> result = new LinkedHashSet<>();
+        if (tagId != null) {
+            result.add(tagId);
+        }
+        if (tagIds != null) {
+            result.addAll(tagIds);
+        }
+        return result;
+    }
+
+    public boolean hasTagFilter() {
+        return tagId != null
+                || (tagIds != null && !tagIds.isEmpty())
+                || (excludeTagIds != null && !excludeTagIds.isEmpty());
+    }
 }
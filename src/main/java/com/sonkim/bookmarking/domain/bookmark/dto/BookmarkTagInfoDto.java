@@ -0,0 +1,13 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 여러 북마크의 태그를 한 번에 조회할 때 사용하는 프로젝션
+@Data
+@AllArgsConstructor
+public class BookmarkTagInfoDto {
+    private Long bookmarkId;
+    private Long tagId;
+    private String tagName;
+}
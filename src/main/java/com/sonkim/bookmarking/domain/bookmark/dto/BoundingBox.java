@@ -0,0 +1,69 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 지도 화면 영역 (minLongitude > maxLongitude 이면 경도 180도를 넘는 영역)
+@Data
+@AllArgsConstructor
+public class BoundingBox {
+    private double minLatitude;
+    private double minLongitude;
+    private double maxLatitude;
+    private double maxLongitude;
+
+    // 중심 좌표에서 반경 radiusMeters 인 원을 포함하는 영역
+    public static BoundingBox around(double latitude, double longitude, double radiusMeters) {
+        double deltaLat = Math.toDegrees(radiusMeters / 6_371_000);
+        double minLat = latitude - deltaLat;
+        double maxLat = latitude + deltaLat;
+
+        // 극점을 포함하면 모든 경도를 포함
+        if (minLat <= -90 || maxLat >= 90) {
+            return new BoundingBox(Math.max(minLat, -90), -180, Math.min(maxLat, 90), 180);
+        }
+
+        double ratio = Math.sin(radiusMeters / 6_371_000) / Math.cos(Math.toRadians(latitude));
+        if (radiusMeters / 6_371_000 >= Math.PI / 2 || ratio >= 1) {
+            return new BoundingBox(minLat, -180, maxLat, 180);
+        }
+
+        double deltaLng = Math.toDegrees(Math.asin(ratio));
+
+        double minLng = longitude - deltaLng;
+        double maxLng = longitude + deltaLng;
+        if (minLng < -180) {
+            minLng += 360;
+        }
+        if (maxLng > 180) {
+            maxLng -= 360;
+        }
+        return new BoundingBox(minLat, minLng, maxLat, maxLng);
+    }
+
+    public boolean crossesAntimeridian() {
+        return minLongitude > maxLongitude;
+    }
+
+    public void validate() {
+        validateLatitude(minLatitude);
+        validateLatitude(maxLatitude);
+        validateLongitude(minLongitude);
+        validateLongitude(maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new IllegalArgumentException("최소 위도가 최대 위도보다 큽니다.");
+        }
+    }
+
+    public static void validateLatitude(double latitude) {
+        if (latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("위도는 -90 ~ 90 사이여야 합니다.");
+        }
+    }
+
+    public static void validateLongitude(double longitude) {
+        if (longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("경도는 -180 ~ 180 사이여야 합니다.");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 검색어의 모든 토큰을 가진 북마크와 관련도 점수 (일치한 토큰 가중치 합)
+@Data
+@AllArgsConstructor
+public class KeywordHitDto {
+    private Long bookmarkId;
+    private Long score;
+}
@@ -0,0 +1,14 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 지도 클러스터 (북마크가 하나뿐인 클러스터는 bookmarkId 포함)
+@Data
+@AllArgsConstructor
+public class MapClusterDto {
+    private double latitude;        // 중심 위도
+    private double longitude;       // 중심 경도
+    private int count;              // 북마크 수
+    private Long bookmarkId;
+}
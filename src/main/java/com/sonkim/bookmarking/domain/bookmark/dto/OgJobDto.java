@@ -0,0 +1,21 @@
+package com.sonkim.bookmarking.domain.bookmark.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sonkim.bookmarking.domain.bookmark.enums.OgJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// OpenGraph 추출 작업 상태
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OgJobDto {
+    private String jobId;
+    private OgJobStatus status;
+    private BookmarkOGDto result;   // COMPLETED 인 경우
+    private String message;         // FAILED 인 경우
+}
@@ -1,11 +1,13 @@
 package com.sonkim.bookmarking.domain.bookmark.entity;
 
+import com.sonkim.bookmarking.common.util.GeoHashUtil;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkUpdateDto;
 import com.sonkim.bookmarking.domain.user.entity.User;
 import com.sonkim.bookmarking.domain.category.entity.Category;
 import com.sonkim.bookmarking.domain.team.entity.Team;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,6 +18,12 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_bookmark_team_geohash", columnList = "team_id, geohash"),
+        @Index(name = "idx_bookmark_team_likes", columnList = "team_id, likes_count, id"),
+        @Index(name = "idx_bookmark_team_title", columnList = "team_id, title, id"),
+        @Index(name = "idx_bookmark_image_key", columnList = "image_key")
+})
 public class Bookmark {
 
     @Id
@@ -53,12 +61,32 @@ public class Bookmark {
     @Column(columnDefinition = "TEXT")
     private String originalImageUrl;
 
-    // 최종 이미지 파일 키
+    // 최종 이미지 파일 키 (OG 이미지는 내용 해시로 저장하므로 여러 북마크가 같은 키를 공유할 수 있음)
     private String imageKey;
 
+    // 이미지 로딩 전 표시할 흐린 미리보기 (BlurHash)
+    @Column(length = 64)
+    private String imagePlaceholder;
+
+    // 여러 너비(ImageVariant)의 이미지가 저장되어 있는지 여부 (직접 업로드한 이미지는 단일 크기)
+    @Builder.Default
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private Boolean imageVariants = false;
+
     private Double latitude;        // 위도
     private Double longitude;       // 경도
 
+    // 위치 검색용 geohash (위도, 경도로부터 계산)
+    @Column(length = GeoHashUtil.MAX_PRECISION)
+    private String geohash;
+
+    // 좋아요 수 (정렬용, 좋아요 추가/취소 시 쿼리로만 증감하므로 엔티티 수정 시에는 덮어쓰지 않음)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long likesCount = 0L;
+
     // 생성일
     @Builder.Default
     private LocalDateTime createdAt = LocalDateTime.now();
@@ -98,11 +126,29 @@ public class Bookmark {
             else
                 this.longitude = null;
         }
+        updateGeohash();
         this.updatedAt = LocalDateTime.now();
     }
 
+    @PrePersist
+    private void updateGeohash() {
+        this.geohash = (latitude != null && longitude != null)
+                ? GeoHashUtil.encode(latitude, longitude, GeoHashUtil.MAX_PRECISION)
+                : null;
+    }
+
     public void updateImageKey(String imageKey) {
         this.imageKey = imageKey;
+        this.imagePlaceholder = null;
+        this.imageVariants = false;
+    }
+
+    // OG 이미지 처리 완료 (여러 너비로 저장된 이미지)
+    public void updateProcessedImage(String imageKey, String imagePlaceholder) {
+        this.imageKey = imageKey;
+        this.imagePlaceholder = imagePlaceholder;
+        this.imageVariants = true;
+        this.originalImageUrl = null;
     }
 
     public void updateOriginalImageUrl(String originalImageUrl) {
@@ -0,0 +1,8 @@
+package com.sonkim.bookmarking.domain.bookmark.enums;
+
+public enum BookmarkSortType {
+    LATEST,         // 최신순 (ID 내림차순)
+    MOST_LIKED,     // 좋아요 많은 순 (좋아요 수, ID 내림차순)
+    TITLE_ASC,      // 제목 오름차순 (제목, ID 오름차순, 제목 없는 북마크가 먼저)
+    RELEVANCE       // 검색어 관련도순 (일치한 토큰 가중치 합, ID 내림차순, 검색어가 없으면 최신순)
+}
@@ -0,0 +1,35 @@
+package com.sonkim.bookmarking.domain.bookmark.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.regex.Pattern;
+
+// OG 이미지 저장 너비
+// DETAIL 은 기본 파일 키 그대로, 나머지는 "{기본 키}_w{너비}.webp" 로 저장
+// 너비별 파일은 원본 내용 해시 키("{SHA-256 16진수}.webp")로 저장한 OG 이미지에만 있음
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+    THUMBNAIL(160),     // 목록 썸네일
+    CARD(320),          // 카드형 목록
+    DETAIL(600);        // 상세 화면 (기존 단일 이미지와 같은 크기)
+
+    private static final Pattern CONTENT_HASH_KEY = Pattern.compile("[0-9a-f]{64}\\.webp");
+
+    private final int width;
+
+    // 여러 북마크가 함께 쓰는 원본 내용 해시 키인지 (사용자가 올린 이미지 키는 해당하지 않음)
+    public static boolean isContentHashKey(String key) {
+        return key != null && CONTENT_HASH_KEY.matcher(key).matches();
+    }
+
+    public String keyFor(String baseKey) {
+        if (this == DETAIL) {
+            return baseKey;
+        }
+        int dot = baseKey.lastIndexOf('.');
+        String name = dot == -1 ? baseKey : baseKey.substring(0, dot);
+        return name + "_w" + width + ".webp";
+    }
+}
@@ -0,0 +1,7 @@
+package com.sonkim.bookmarking.domain.bookmark.enums;
+
+public enum OgJobStatus {
+    PENDING,    // 추출 중
+    COMPLETED,  // 추출 완료
+    FAILED      // 추출 실패
+}
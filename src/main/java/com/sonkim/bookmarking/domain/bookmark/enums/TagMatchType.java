@@ -0,0 +1,6 @@
+package com.sonkim.bookmarking.domain.bookmark.enums;
+
+public enum TagMatchType {
+    ALL,    // 선택한 태그를 모두 가진 북마크
+    ANY     // 선택한 태그 중 하나라도 가진 북마크
+}
@@ -2,8 +2,11 @@ package com.sonkim.bookmarking.domain.bookmark.repository;
 
 import com.sonkim.bookmarking.domain.bookmark.entity.BookmarkLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +16,8 @@ public interface BookmarkLikeRepository extends JpaRepository<BookmarkLike, Long
     long countBookmarkLikesByBookmark_Id(Long bookmarkId);
 
     Optional<BookmarkLike> findByUser_IdAndBookmark_Id(Long userId, Long bookmarkId);
+
+    // 사용자가 좋아요를 누른 북마크 ID 목록 (좋아요 버퍼 로딩용)
+    @Query("SELECT bl.bookmark.id FROM BookmarkLike bl WHERE bl.user.id = :userId")
+    List<Long> findBookmarkIdsByUserId(@Param("userId") Long userId);
 }
@@ -4,8 +4,13 @@ import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, BookmarkRepositoryCustom {
 
@@ -14,4 +19,18 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long>, Bookm
 
     // 그룹 내 모든 북마크 개수 카운트
     long countByTeam_Id(Long teamId);
+
+    // 좋아요 수 조회 (좋아요 카운터 초기화용)
+    @Query("SELECT b.likesCount FROM Bookmark b WHERE b.id = :bookmarkId")
+    Optional<Long> findLikesCountById(@Param("bookmarkId") Long bookmarkId);
+
+    // 다른 북마크가 같은 이미지 파일을 사용하는지 확인 (이미지 삭제 전 확인용)
+    boolean existsByImageKeyAndIdNot(String imageKey, Long id);
+
+    // 이미지 파일을 사용하는 북마크가 있는지 확인 (지연 삭제 직전 확인용)
+    boolean existsByImageKey(String imageKey);
+
+    // 같은 이미지 파일을 사용하는 북마크의 미리보기 (이미 저장된 이미지를 재사용할 때)
+    @Query("SELECT b.imagePlaceholder FROM Bookmark b WHERE b.imageKey = :imageKey AND b.imagePlaceholder IS NOT NULL")
+    List<String> findImagePlaceholdersByImageKey(@Param("imageKey") String imageKey, Pageable pageable);
 }
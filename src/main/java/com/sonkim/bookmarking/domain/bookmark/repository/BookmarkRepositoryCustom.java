@@ -1,16 +1,31 @@
 package com.sonkim.bookmarking.domain.bookmark.repository;
 
+import com.sonkim.bookmarking.common.dto.KeysetCursor;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkRowDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkSearchCond;
+import com.sonkim.bookmarking.domain.bookmark.dto.BoundingBox;
+import com.sonkim.bookmarking.domain.bookmark.dto.KeywordHitDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.LikedBookmarkWrapper;
 import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.Set;
 
 public interface BookmarkRepositoryCustom {
-    // 검색 조건을 받아와 x검색 처리
-    List<Bookmark> search(Long teamId, BookmarkSearchCond cond, Long cursorId, int size);
+    // 검색 조건을 받아와 x검색 처리 (candidateIds 가 주어지면 해당 북마크 중에서만 검색)
+    // 목록에 필요한 컬럼만 한 번의 쿼리로 프로젝션 (좋아요 정보는 좋아요 버퍼에서 조회)
+    List<BookmarkRowDto> search(Long teamId, BookmarkSearchCond cond, Collection<Long> candidateIds,
+                                KeysetCursor cursor, int size);
+
+    // 검색어의 모든 토큰을 가진 북마크를 관련도 점수, ID 내림차순으로 조회 (역색인만 사용)
+    // afterScore, afterId 가 주어지면 그 다음 순위부터 조회
+    List<KeywordHitDto> findKeywordHits(Long teamId, Set<String> tokens, Long afterScore, Long afterId, int size);
+
+    // 지도 영역 안의 북마크 조회 (geohash 인덱스 사용)
+    List<Bookmark> findInBoundingBox(Long teamId, Long categoryId, BoundingBox box, int size);
 
     // 북마크 조회 시 북마크-태그와 태그 정보 모두 가져오는 쿼리
     Optional<Bookmark> findByIdWithTags(@Param("id") Long id);
@@ -1,22 +1,40 @@
 package com.sonkim.bookmarking.domain.bookmark.repository;
 
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
+import com.sonkim.bookmarking.common.dto.KeysetCursor;
+import com.sonkim.bookmarking.common.util.GeoHashUtil;
+import com.sonkim.bookmarking.domain.bookmark.dto.BoundingBox;
+import com.sonkim.bookmarking.domain.bookmark.dto.KeywordHitDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.LikedBookmarkWrapper;
 import jakarta.persistence.EntityManager;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkRowDto;
 import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkSearchCond;
 import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
+import com.sonkim.bookmarking.domain.bookmark.enums.BookmarkSortType;
+import com.sonkim.bookmarking.domain.bookmark.enums.TagMatchType;
 import com.sonkim.bookmarking.domain.category.entity.Category;
+import com.sonkim.bookmarking.domain.search.util.BookmarkTokenizer;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.sonkim.bookmarking.domain.bookmark.entity.QBookmark.bookmark;
 import static com.sonkim.bookmarking.domain.bookmark.entity.QBookmarkTag.bookmarkTag;
 import static com.sonkim.bookmarking.domain.tag.entity.QTag.tag;
 import static com.sonkim.bookmarking.domain.bookmark.entity.QBookmarkLike.bookmarkLike;
+import static com.sonkim.bookmarking.domain.search.entity.QBookmarkSearchToken.bookmarkSearchToken;
 
 @RequiredArgsConstructor
 public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
@@ -25,27 +43,87 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
     private final EntityManager em;
 
     @Override
-    public List<Bookmark> search(Long teamId, BookmarkSearchCond cond, Long cursorId, int size) {
-        List<Bookmark> content = queryFactory
-                .select(bookmark)
+    public List<BookmarkRowDto> search(Long teamId, BookmarkSearchCond cond, Collection<Long> candidateIds,
+                                       KeysetCursor cursor, int size) {
+        BookmarkSortType sort = cond.getSortOrDefault();
+
+        // 후보 ID가 주어지면 태그 조건은 태그 필터 색인에서 이미 반영된 상태
+        // 카테고리 ID는 외래 키 컬럼을 그대로 사용하므로 카테고리 조인 없음
+        List<BookmarkRowDto> content = queryFactory
+                .select(Projections.constructor(BookmarkRowDto.class,
+                        bookmark.id,
+                        bookmark.url,
+                        bookmark.title,
+                        bookmark.description,
+                        bookmark.imageKey,
+                        bookmark.originalImageUrl,
+                        bookmark.imagePlaceholder,
+                        bookmark.imageVariants,
+                        bookmark.latitude,
+                        bookmark.longitude,
+                        bookmark.createdAt,
+                        bookmark.likesCount,
+                        bookmark.category.id
+                ))
                 .from(bookmark)
-                .leftJoin(bookmark.bookmarkTags, bookmarkTag)
                 .where(
                         bookmark.team.id.eq(teamId),
-                        keywordContain(cond.getKeyword()),
-                        tagIdEq(cond.getTagId()),
+                        idIn(candidateIds),
+                        candidateIds == null ? tagFilter(cond) : null,
+                        keywordContain(teamId, cond.getKeyword(), candidateIds != null),
                         categoryIdEq(cond.getCategoryId()),
                         locationIsNotNull(cond.getForMap()),
-                        cursorIdLessThen(cursorId)
+                        keysetAfter(sort, cursor)
                 )
-                .distinct()
                 .limit(size)
-                .orderBy(bookmark.id.desc())
+                .orderBy(sortOrder(sort))
                 .fetch();
 
         return content;
     }
 
+    @Override
+    public List<KeywordHitDto> findKeywordHits(Long teamId, Set<String> tokens, Long afterScore, Long afterId, int size) {
+        // JPQL 의 SUM 은 정수 컬럼이어도 Long 을 반환
+        NumberExpression<Long> score = Expressions.numberTemplate(Long.class, "sum({0})", bookmarkSearchToken.weight);
+
+        BooleanBuilder having = new BooleanBuilder(bookmarkSearchToken.token.countDistinct().eq((long) tokens.size()));
+        if (afterScore != null && afterId != null) {
+            having.and(score.lt(afterScore)
+                    .or(score.eq(afterScore).and(bookmarkSearchToken.bookmarkId.lt(afterId))));
+        }
+
+        return queryFactory
+                .select(Projections.constructor(KeywordHitDto.class,
+                        bookmarkSearchToken.bookmarkId,
+                        score
+                ))
+                .from(bookmarkSearchToken)
+                .where(
+                        bookmarkSearchToken.teamId.eq(teamId),
+                        bookmarkSearchToken.token.in(tokens)
+                )
+                .groupBy(bookmarkSearchToken.bookmarkId)
+                .having(having)
+                .orderBy(score.desc(), bookmarkSearchToken.bookmarkId.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Bookmark> findInBoundingBox(Long teamId, Long categoryId, BoundingBox box, int size) {
+        return queryFactory
+                .selectFrom(bookmark)
+                .where(
+                        bookmark.team.id.eq(teamId),
+                        withinBoundingBox(box),
+                        categoryIdEq(categoryId)
+                )
+                .orderBy(bookmark.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
     @Override
     public Optional<Bookmark> findByIdWithTags(Long id) {
         Bookmark result = queryFactory
@@ -106,17 +184,151 @@ public class BookmarkRepositoryCustomImpl implements BookmarkRepositoryCustom {
         return forMap!=null && forMap ? bookmark.latitude.isNotNull().and(bookmark.longitude.isNotNull()) : null;
     }
 
-    private BooleanExpression keywordContain(String keyword) {
-        return keyword != null ? bookmark.title.lower().contains(keyword.toLowerCase())
-                .or(bookmark.description.lower().contains(keyword.toLowerCase())) : null;
+    private Predicate withinBoundingBox(BoundingBox box) {
+        // 영역을 덮는 geohash 셀의 접두어로 인덱스 범위를 좁힌 뒤 정확한 좌표로 다시 필터링
+        List<String> cells = new ArrayList<>();
+        BooleanExpression longitudeCond;
+        if (box.crossesAntimeridian()) {
+            cells.addAll(GeoHashUtil.cover(box.getMinLatitude(), box.getMinLongitude(), box.getMaxLatitude(), 180));
+            cells.addAll(GeoHashUtil.cover(box.getMinLatitude(), -180, box.getMaxLatitude(), box.getMaxLongitude()));
+            longitudeCond = bookmark.longitude.goe(box.getMinLongitude()).or(bookmark.longitude.loe(box.getMaxLongitude()));
+        } else {
+            cells.addAll(GeoHashUtil.cover(box.getMinLatitude(), box.getMinLongitude(), box.getMaxLatitude(), box.getMaxLongitude()));
+            longitudeCond = bookmark.longitude.between(box.getMinLongitude(), box.getMaxLongitude());
+        }
+
+        BooleanBuilder cellCond = new BooleanBuilder();
+        cells.forEach(cell -> cellCond.or(bookmark.geohash.startsWith(cell)));
+
+        return cellCond
+                .and(bookmark.latitude.between(box.getMinLatitude(), box.getMaxLatitude()))
+                .and(longitudeCond);
+    }
+
+    // candidatesGiven: 후보 ID 가 이미 주어졌으면 역색인 조회 없이 후보만 다시 확인
+    private BooleanExpression keywordContain(Long teamId, String keyword, boolean candidatesGiven) {
+        if (keyword == null) {
+            return null;
+        }
+
+        String lowerKeyword = keyword.toLowerCase();
+        BooleanExpression keywordMatch = bookmark.title.lower().contains(lowerKeyword)
+                .or(bookmark.description.lower().contains(lowerKeyword))
+                .or(tagNameContains(lowerKeyword));
+
+        // 검색어를 n-gram 으로 만들 수 없으면 기존 LIKE 검색 사용
+        // (짧은 검색어는 거의 모든 URL 에 들어 있으므로 URL 은 제외)
+        Set<String> tokens = BookmarkTokenizer.tokenizeQuery(keyword);
+        if (tokens == null) {
+            return keywordMatch;
+        }
+
+        // 토큰이 떨어져 있는 경우를 거르기 위해 토큰을 색인한 모든 필드(제목, 설명, URL, 태그 이름)에서 LIKE 로 다시 확인
+        keywordMatch = keywordMatch.or(bookmark.url.lower().contains(lowerKeyword));
+        if (candidatesGiven) {
+            return keywordMatch;
+        }
+
+        // 검색어의 모든 토큰을 가진 북마크를 역색인에서 먼저 추림
+        return keywordMatch.and(bookmark.id.in(
+                JPAExpressions
+                        .select(bookmarkSearchToken.bookmarkId)
+                        .from(bookmarkSearchToken)
+                        .where(
+                                bookmarkSearchToken.teamId.eq(teamId),
+                                bookmarkSearchToken.token.in(tokens)
+                        )
+                        .groupBy(bookmarkSearchToken.bookmarkId)
+                        .having(bookmarkSearchToken.token.countDistinct().eq((long) tokens.size()))
+        ));
+    }
+
+    private BooleanExpression tagNameContains(String lowerKeyword) {
+        return JPAExpressions
+                .selectOne()
+                .from(bookmarkTag)
+                .join(bookmarkTag.tag, tag)
+                .where(
+                        bookmarkTag.bookmark.id.eq(bookmark.id),
+                        tag.name.lower().contains(lowerKeyword)
+                )
+                .exists();
     }
 
     private BooleanExpression categoryIdEq(Long categoryId) {
         return categoryId != null ? bookmark.category.id.eq(categoryId) : null;
     }
 
-    private BooleanExpression tagIdEq(Long tagId) {
-        return tagId != null ? bookmarkTag.tag.id.eq(tagId) : null;
+    // 정렬 컬럼 (항상 ID를 마지막에 두어 순서를 고정)
+    private OrderSpecifier<?>[] sortOrder(BookmarkSortType sort) {
+        return switch (sort) {
+            // 관련도순은 역색인에서 순위를 매기므로 DB 에서는 최신순 (검색어를 토큰으로 만들 수 없으면 모두 같은 점수)
+            case LATEST, RELEVANCE -> new OrderSpecifier<?>[]{bookmark.id.desc()};
+            case MOST_LIKED -> new OrderSpecifier<?>[]{bookmark.likesCount.desc(), bookmark.id.desc()};
+            // MySQL 은 오름차순에서 NULL 이 먼저 오므로 별도 처리 없이 인덱스 순서 그대로 사용
+            case TITLE_ASC -> new OrderSpecifier<?>[]{bookmark.title.asc(), bookmark.id.asc()};
+        };
+    }
+
+    // 커서 위치 이후의 항목만 조회 (정렬 컬럼 인덱스를 따라 바로 이동)
+    private BooleanExpression keysetAfter(BookmarkSortType sort, KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        return switch (sort) {
+            case LATEST -> bookmark.id.lt(cursor.getLongKey(0));
+            case RELEVANCE -> bookmark.id.lt(cursor.getLongKey(1));
+            case MOST_LIKED -> {
+                Long likesCount = cursor.getLongKey(0);
+                Long id = cursor.getLongKey(1);
+                yield bookmark.likesCount.lt(likesCount)
+                        .or(bookmark.likesCount.eq(likesCount).and(bookmark.id.lt(id)));
+            }
+            case TITLE_ASC -> {
+                String title = cursor.getKey(0);
+                Long id = cursor.getLongKey(1);
+                yield title == null
+                        ? bookmark.title.isNull().and(bookmark.id.gt(id)).or(bookmark.title.isNotNull())
+                        : bookmark.title.gt(title).or(bookmark.title.eq(title).and(bookmark.id.gt(id)));
+            }
+        };
+    }
+
+    // 태그 필터 색인을 사용할 수 없는 정렬에서의 태그 조건
+    private Predicate tagFilter(BookmarkSearchCond cond) {
+        if (!cond.hasTagFilter()) {
+            return null;
+        }
+
+        BooleanBuilder builder = new BooleanBuilder();
+        Set<Long> includedTagIds = cond.getIncludedTagIds();
+        if (!includedTagIds.isEmpty()) {
+            if (cond.getTagMatch() == TagMatchType.ANY) {
+                builder.and(hasAnyTag(includedTagIds));
+            } else {
+                includedTagIds.forEach(tagId -> builder.and(hasAnyTag(List.of(tagId))));
+            }
+        }
+        if (cond.getExcludeTagIds() != null && !cond.getExcludeTagIds().isEmpty()) {
+            builder.and(hasAnyTag(cond.getExcludeTagIds()).not());
+        }
+        return builder;
+    }
+
+    private BooleanExpression hasAnyTag(Collection<Long> tagIds) {
+        return JPAExpressions
+                .selectOne()
+                .from(bookmarkTag)
+                .where(
+                        bookmarkTag.bookmark.id.eq(bookmark.id),
+                        bookmarkTag.tag.id.in(tagIds)
+                )
+                .exists();
+    }
+
+    private BooleanExpression idIn(Collection<Long> candidateIds) {
+        return candidateIds != null ? bookmark.id.in(candidateIds) : null;
     }
 
     private BooleanExpression cursorIdLessThen(Long cursorId) {
@@ -1,9 +1,13 @@
 package com.sonkim.bookmarking.domain.bookmark.repository;
 
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkTagInfoDto;
 import com.sonkim.bookmarking.domain.bookmark.entity.BookmarkTag;
 
 import java.util.List;
 
 public interface BookmarkTagRepositoryCustom {
     List<BookmarkTag> findAllByBookmarkIdsWithTags(List<Long> bookmarkIds);
+
+    // 엔티티 없이 북마크 ID, 태그 ID, 태그 이름만 조회
+    List<BookmarkTagInfoDto> findTagInfosByBookmarkIds(List<Long> bookmarkIds);
 }
@@ -1,6 +1,8 @@
 package com.sonkim.bookmarking.domain.bookmark.repository;
 
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkTagInfoDto;
 import com.sonkim.bookmarking.domain.bookmark.entity.BookmarkTag;
 import lombok.RequiredArgsConstructor;
 
@@ -22,4 +24,18 @@ public class BookmarkTagRepositoryCustomImpl implements BookmarkTagRepositoryCus
                 .where(bookmarkTag.bookmark.id.in(bookmarkIds))
                 .fetch();
     }
+
+    @Override
+    public List<BookmarkTagInfoDto> findTagInfosByBookmarkIds(List<Long> bookmarkIds) {
+        return queryFactory
+                .select(Projections.constructor(BookmarkTagInfoDto.class,
+                        bookmarkTag.bookmark.id,
+                        tag.id,
+                        tag.name
+                ))
+                .from(bookmarkTag)
+                .join(bookmarkTag.tag, tag)
+                .where(bookmarkTag.bookmark.id.in(bookmarkIds))
+                .fetch();
+    }
 }
@@ -0,0 +1,273 @@
+package com.sonkim.bookmarking.domain.bookmark.service;
+
+import com.sonkim.bookmarking.common.service.BookmarkChangedEvent;
+import com.sonkim.bookmarking.domain.bookmark.dto.BoundingBox;
+import com.sonkim.bookmarking.domain.bookmark.dto.MapClusterDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 그룹별 위치 북마크를 줌 레벨마다 격자로 미리 묶어두는 클러스터 색인
+// 그룹의 위치가 바뀔 때마다 Redis 의 그룹 버전을 올리고, 조회 시 색인을 만든 시점의 버전과 다르면 다시 생성 (다른 서버의 변경 반영)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkClusterService {
+
+    public static final int MAX_ZOOM = 18;
+
+    // 격자 한 칸 = 256px 타일의 1/4 (64px)
+    private static final int GRID_SHIFT = 2;
+    // 웹 메르카토르 투영에서 표현 가능한 최대 위도
+    private static final double MAX_MERCATOR_LATITUDE = 85.05112878;
+
+    private static final int MAX_CACHED_TEAMS = 200;
+    private static final long INDEX_TTL_MILLIS = 10 * 60 * 1000L;
+    private static final String VERSION_KEY_PREFIX = "CLUSTER:VER:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<Long, TeamClusterIndex> teamIndexes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, TeamClusterIndex> eldest) {
+                    return size() > MAX_CACHED_TEAMS;
+                }
+            });
+    private final Map<Long, Object> buildLocks = new ConcurrentHashMap<>();
+
+    // 지도 영역 안의 클러스터 조회
+    public List<MapClusterDto> getClusters(Long teamId, int zoom, BoundingBox box) {
+        box.validate();
+        if (zoom < 0) {
+            throw new IllegalArgumentException("줌 레벨은 0 이상이어야 합니다.");
+        }
+        int level = Math.min(zoom, MAX_ZOOM);
+
+        long minX = cellX(box.getMinLongitude(), level);
+        long maxX = cellX(box.getMaxLongitude(), level);
+        // 화면 위쪽(북쪽)이 y 값이 작음
+        long minY = cellY(box.getMaxLatitude(), level);
+        long maxY = cellY(box.getMinLatitude(), level);
+
+        return getOrBuild(teamId).query(level, minX, maxX, minY, maxY, box.crossesAntimeridian());
+    }
+
+    // 북마크 위치 변경 반영 (커밋 이후)
+    // 그룹 버전을 올린 뒤, 이 서버의 색인이 바로 이전 버전일 때만 변경을 직접 적용 (그 사이 다른 변경이 있었으면 폐기)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkChanged(BookmarkChangedEvent event) {
+        long version = bumpVersion(event.getTeamId());
+
+        TeamClusterIndex index = teamIndexes.get(event.getTeamId());
+        if (index == null) {
+            return;
+        }
+
+        if (!index.apply(version, event)) {
+            teamIndexes.remove(event.getTeamId(), index);
+        }
+    }
+
+    private TeamClusterIndex getOrBuild(Long teamId) {
+        long version = currentVersion(teamId);
+        TeamClusterIndex index = teamIndexes.get(teamId);
+        if (isUsable(index, version)) {
+            return index;
+        }
+
+        synchronized (buildLocks.computeIfAbsent(teamId, id -> new Object())) {
+            index = teamIndexes.get(teamId);
+            if (isUsable(index, version)) {
+                return index;
+            }
+
+            // 버전을 먼저 읽고 DB 를 조회하므로, 생성 중에 들어온 변경은 버전이 달라져 다음 조회 때 다시 생성됨
+            TeamClusterIndex newIndex = new TeamClusterIndex(currentVersion(teamId));
+            jdbcTemplate.query(
+                    "SELECT id, latitude, longitude FROM bookmark " +
+                    "WHERE team_id = ? AND latitude IS NOT NULL AND longitude IS NOT NULL",
+                    rs -> {
+                        newIndex.put(rs.getLong("id"), rs.getDouble("latitude"), rs.getDouble("longitude"));
+                    },
+                    teamId);
+
+            log.info("teamId: {} 지도 클러스터 색인 생성 (북마크: {})", teamId, newIndex.points.size());
+            teamIndexes.put(teamId, newIndex);
+            return newIndex;
+        }
+    }
+
+    private static boolean isUsable(TeamClusterIndex index, long version) {
+        return index != null && !index.isExpired() && index.getVersion() >= version;
+    }
+
+    private long currentVersion(Long teamId) {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private long bumpVersion(Long teamId) {
+        Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : version;
+    }
+
+    private static long cellX(double longitude, int zoom) {
+        long cells = 1L << (zoom + GRID_SHIFT);
+        long x = (long) Math.floor((longitude + 180) / 360 * cells);
+        return Math.max(0, Math.min(x, cells - 1));
+    }
+
+    private static long cellY(double latitude, int zoom) {
+        long cells = 1L << (zoom + GRID_SHIFT);
+        double clamped = Math.max(-MAX_MERCATOR_LATITUDE, Math.min(latitude, MAX_MERCATOR_LATITUDE));
+        double radians = Math.toRadians(clamped);
+        double y = (1 - Math.log(Math.tan(radians) + 1 / Math.cos(radians)) / Math.PI) / 2;
+        return Math.max(0, Math.min((long) Math.floor(y * cells), cells - 1));
+    }
+
+    private static long cellKey(long x, long y) {
+        return (x << 32) | y;
+    }
+
+    private static final class TeamClusterIndex {
+        private final long createdAt = System.currentTimeMillis();
+        // 이 색인에 반영된 그룹 버전
+        private long version;
+        // 북마크 ID -> {위도, 경도}
+        private final Map<Long, double[]> points = new HashMap<>();
+        // 줌 레벨별 격자 칸 -> 클러스터
+        private final List<Map<Long, Cluster>> levels = new ArrayList<>(MAX_ZOOM + 1);
+
+        TeamClusterIndex(long version) {
+            this.version = version;
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                levels.add(new HashMap<>());
+            }
+        }
+
+        synchronized long getVersion() {
+            return version;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > INDEX_TTL_MILLIS;
+        }
+
+        // 바로 다음 버전의 변경만 적용 (이미 반영된 변경이면 무시, 빠진 변경이 있으면 false)
+        synchronized boolean apply(long newVersion, BookmarkChangedEvent event) {
+            if (newVersion <= version) {
+                return true;
+            }
+            if (newVersion != version + 1) {
+                return false;
+            }
+
+            if (event.isDeleted() || event.getLatitude() == null || event.getLongitude() == null) {
+                remove(event.getBookmarkId());
+            } else {
+                put(event.getBookmarkId(), event.getLatitude(), event.getLongitude());
+            }
+            version = newVersion;
+            return true;
+        }
+
+        synchronized void put(long bookmarkId, double latitude, double longitude) {
+            remove(bookmarkId);
+            points.put(bookmarkId, new double[]{latitude, longitude});
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                long key = cellKey(cellX(longitude, zoom), cellY(latitude, zoom));
+                levels.get(zoom).computeIfAbsent(key, k -> new Cluster()).add(bookmarkId, latitude, longitude);
+            }
+        }
+
+        synchronized void remove(long bookmarkId) {
+            double[] point = points.remove(bookmarkId);
+            if (point == null) {
+                return;
+            }
+
+            for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+                long key = cellKey(cellX(point[1], zoom), cellY(point[0], zoom));
+                Map<Long, Cluster> level = levels.get(zoom);
+                Cluster cluster = level.get(key);
+                if (cluster != null && cluster.remove(bookmarkId, point[0], point[1]) == 0) {
+                    level.remove(key);
+                }
+            }
+        }
+
+        // 화면에 걸친 격자 칸만 찾아보고, 화면 칸 수가 클러스터 수보다 많으면 클러스터 전체를 확인
+        synchronized List<MapClusterDto> query(int zoom, long minX, long maxX, long minY, long maxY,
+                                               boolean crossesAntimeridian) {
+            Map<Long, Cluster> level = levels.get(zoom);
+            long cellsPerRow = 1L << (zoom + GRID_SHIFT);
+            long width = crossesAntimeridian ? (cellsPerRow - minX) + (maxX + 1) : (maxX - minX + 1);
+            long viewportCells = width * (maxY - minY + 1);
+
+            List<MapClusterDto> result = new ArrayList<>();
+            if (viewportCells <= level.size()) {
+                for (long i = 0; i < width; i++) {
+                    long x = (minX + i) % cellsPerRow;
+                    for (long y = minY; y <= maxY; y++) {
+                        Cluster cluster = level.get(cellKey(x, y));
+                        if (cluster != null) {
+                            result.add(cluster.toDto());
+                        }
+                    }
+                }
+                return result;
+            }
+
+            for (Map.Entry<Long, Cluster> entry : level.entrySet()) {
+                long x = entry.getKey() >>> 32;
+                long y = entry.getKey() & 0xFFFFFFFFL;
+
+                boolean inX = crossesAntimeridian ? (x >= minX || x <= maxX) : (x >= minX && x <= maxX);
+                if (inX && y >= minY && y <= maxY) {
+                    result.add(entry.getValue().toDto());
+                }
+            }
+            return result;
+        }
+    }
+
+    private static final class Cluster {
+        private int count;
+        private double sumLatitude;
+        private double sumLongitude;
+        // 북마크가 하나만 남으면 이 값이 곧 해당 북마크 ID
+        private long sumBookmarkId;
+
+        void add(long bookmarkId, double latitude, double longitude) {
+            count++;
+            sumLatitude += latitude;
+            sumLongitude += longitude;
+            sumBookmarkId += bookmarkId;
+        }
+
+        int remove(long bookmarkId, double latitude, double longitude) {
+            count--;
+            sumLatitude -= latitude;
+            sumLongitude -= longitude;
+            sumBookmarkId -= bookmarkId;
+            return count;
+        }
+
+        MapClusterDto toDto() {
+            return new MapClusterDto(
+                    sumLatitude / count,
+                    sumLongitude / count,
+                    count,
+                    count == 1 ? sumBookmarkId : null);
+        }
+    }
+}
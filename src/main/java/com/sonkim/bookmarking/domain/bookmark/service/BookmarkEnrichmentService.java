@@ -0,0 +1,98 @@
+package com.sonkim.bookmarking.domain.bookmark.service;
+
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkResponseDto;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkTagInfoDto;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkTagRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.stream.Collectors;
+
+// 북마크 목록의 부가 정보(좋아요 여부, 좋아요 수, 태그)를 동시에 조회
+// 좋아요 정보는 좋아요 버퍼(메모리, Redis)에서 별도 스레드로, 태그는 요청 스레드의 트랜잭션에서 DB로 조회
+// 좋아요 쪽은 DB 커넥션을 거의 쓰지 않으므로 동시에 조회해도 커넥션 풀을 두 배로 쓰지 않음
+@Slf4j
+@Service
+public class BookmarkEnrichmentService {
+
+    // 비동기 조회를 기다리는 최대 시간 (넘으면 요청 스레드에서 직접 조회)
+    private static final long ASYNC_WAIT_MILLIS = 2000;
+
+    private final BookmarkLikeBufferService likeBufferService;
+    private final BookmarkTagRepository bookmarkTagRepository;
+    private final Executor enrichmentExecutor;
+
+    public BookmarkEnrichmentService(BookmarkLikeBufferService likeBufferService,
+                                     BookmarkTagRepository bookmarkTagRepository,
+                                     @Qualifier("enrichmentExecutor") Executor enrichmentExecutor) {
+        this.likeBufferService = likeBufferService;
+        this.bookmarkTagRepository = bookmarkTagRepository;
+        this.enrichmentExecutor = enrichmentExecutor;
+    }
+
+    public Enrichment enrich(List<Long> bookmarkIds, Long userId) {
+        if (bookmarkIds.isEmpty()) {
+            return new Enrichment(Collections.emptySet(), Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        // 좋아요 여부, 좋아요 수는 별도 스레드에서, 태그는 요청 스레드에서 동시에 조회
+        CompletableFuture<LikeInfo> likeFuture = CompletableFuture.supplyAsync(
+                () -> findLikeInfo(userId, bookmarkIds), enrichmentExecutor);
+
+        Map<Long, List<BookmarkResponseDto.TagInfo>> tagsMap = findTagsMap(bookmarkIds);
+
+        LikeInfo likeInfo;
+        try {
+            likeInfo = likeFuture.get(ASYNC_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            likeFuture.cancel(true);
+            likeInfo = findLikeInfo(userId, bookmarkIds);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("좋아요 정보 비동기 조회 실패, 직접 조회로 대체: {}", e.toString());
+            likeFuture.cancel(true);
+            likeInfo = findLikeInfo(userId, bookmarkIds);
+        }
+
+        return new Enrichment(likeInfo.likedBookmarkIds(), likeInfo.likesCounts(), tagsMap);
+    }
+
+    // 북마크 ID별 태그 정보 (엔티티 없이 프로젝션으로 조회)
+    private Map<Long, List<BookmarkResponseDto.TagInfo>> findTagsMap(List<Long> bookmarkIds) {
+        return bookmarkTagRepository.findTagInfosByBookmarkIds(bookmarkIds).stream()
+                .collect(Collectors.groupingBy(
+                        BookmarkTagInfoDto::getBookmarkId,
+                        Collectors.mapping(
+                                tagInfo -> new BookmarkResponseDto.TagInfo(tagInfo.getTagId(), tagInfo.getTagName()),
+                                Collectors.toList()
+                        )
+                ));
+    }
+
+    // 좋아요 버퍼의 사용자 비트맵과 카운터에서 확인 (사용자 Set 이 없을 때만 DB 조회)
+    private LikeInfo findLikeInfo(Long userId, List<Long> bookmarkIds) {
+        return new LikeInfo(
+                likeBufferService.filterLiked(userId, bookmarkIds),
+                likeBufferService.getLikesCounts(bookmarkIds));
+    }
+
+    private record LikeInfo(Set<Long> likedBookmarkIds, Map<Long, Long> likesCounts) {
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Enrichment {
+        private final Set<Long> likedBookmarkIds;
+        // 좋아요 카운터가 있는 북마크만 포함 (없으면 북마크 컬럼 값 사용)
+        private final Map<Long, Long> likesCounts;
+        private final Map<Long, List<BookmarkResponseDto.TagInfo>> tagsMap;
+    }
+}
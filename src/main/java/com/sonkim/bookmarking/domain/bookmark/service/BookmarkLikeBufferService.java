@@ -0,0 +1,575 @@
+package com.sonkim.bookmarking.domain.bookmark.service;
+
+import com.sonkim.bookmarking.common.service.BookmarkChangedEvent;
+import com.sonkim.bookmarking.common.util.CompressedBitmap;
+import com.sonkim.bookmarking.common.util.LocalLruCache;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkLikeRepository;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 좋아요 쓰기 버퍼
+// 좋아요/취소는 Redis (사용자별 Set, 북마크별 카운터)에 바로 반영하고 응답
+// 변경 내역은 대기 Hash 에 모아 두었다가 주기적으로 DB에 일괄 반영 (한 번에 한 서버만 반영)
+// 반영 도중 서버가 종료되어 남은 처리용 Hash 는 주기적으로 찾아 대기 Hash 로 되돌리고, 카운터는 주기적으로 DB와 맞춤
+// 반영은 묶음마다 커밋하며, 커밋 직전에 반영 잠금을 연장해 잠금을 잃은 서버의 묶음은 롤백 (두 서버가 동시에 반영하지 않도록)
+// 목록 화면의 좋아요 여부는 서버 메모리의 사용자별 비트맵에서 확인
+// 좋아요가 바뀔 때마다 Redis 의 사용자별 버전을 올리고, 조회 시 비트맵을 만든 시점의 버전과 다르면 다시 생성 (다른 서버의 변경 반영)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkLikeBufferService {
+
+    private static final String COUNT_KEY_PREFIX = "LIKE:COUNT:";
+    private static final String USER_KEY_PREFIX = "LIKE:USER:";
+    private static final String USER_VERSION_KEY_PREFIX = "LIKE:USER:VER:";
+    private static final String PENDING_KEY = "LIKE:PENDING";
+    private static final String FLUSHING_KEY_PREFIX = "LIKE:FLUSHING:";
+    private static final String FLUSH_LOCK_KEY = "LIKE:FLUSH:LOCK";
+    private static final long FLUSH_LOCK_MILLIS = 30_000L;
+    // 이 시간보다 오래된 처리용 Hash 는 반영 도중 중단된 것으로 판단
+    private static final long ORPHANED_FLUSH_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    // 사용자 Set 이 DB에서 로딩되었음을 나타내는 값 (빈 Set 도 유지하기 위함)
+    private static final String LOADED_MARKER = "0";
+    private static final long KEY_TTL_SECONDS = TimeUnit.DAYS.toSeconds(7);
+    private static final int BATCH_SIZE = 500;
+
+    // 사용자별 좋아요 비트맵 (최근 사용한 사용자만 유지)
+    private static final int MAX_CACHED_USERS = 10_000;
+    // 버전 확인과 별개로 오래된 비트맵은 주기적으로 다시 생성
+    private static final long LIKED_CACHE_TTL_MILLIS = 10 * 60 * 1000L;
+
+    // 사용자 Set, 카운터가 모두 있을 때만 변경하고 실제로 바뀐 경우에만 대기 Hash 에 기록하고 사용자 버전을 올림
+    // KEYS[1]: 사용자 Set, KEYS[2]: 카운터, KEYS[3]: 대기 Hash, KEYS[4]: 사용자 버전
+    // 반환값: 변경되면 새 사용자 버전(1 이상), 0 이미 같은 상태, -1 키가 없어 로딩 필요
+    private static final DefaultRedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 or redis.call('EXISTS', KEYS[2]) == 0 then return -1 end " +
+            "local changed " +
+            "if ARGV[3] == '1' then changed = redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "else changed = redis.call('SREM', KEYS[1], ARGV[1]) end " +
+            "local version = 0 " +
+            "if changed == 1 then " +
+            "  if ARGV[3] == '1' then redis.call('INCR', KEYS[2]) else redis.call('DECR', KEYS[2]) end " +
+            "  redis.call('HSET', KEYS[3], ARGV[2], ARGV[3]) " +
+            "  version = redis.call('INCR', KEYS[4]) " +
+            "  redis.call('EXPIRE', KEYS[4], ARGV[4]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "return version",
+            Long.class);
+
+    // 사용자 Set 이 없을 때만 생성 (확인과 생성 사이에 다른 요청이 만든 Set 을 덮어쓰지 않도록)
+    // ARGV[1]: 만료 시간, ARGV[2..]: 로딩 표시와 북마크 ID
+    private static final DefaultRedisScript<Long> LOAD_USER_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 2, #ARGV, 1000 do " +
+            "  redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    // 반영 대기 중인 변경이 없는 북마크만 카운터를 DB 값으로 맞춤, 반환값: 보정한 카운터 수
+    // KEYS[1]: 대기 Hash, KEYS[2..n+1]: 카운터, ARGV[1..n]: 북마크 ID, ARGV[n+1..2n]: DB 좋아요 수
+    private static final DefaultRedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>(
+            "local pending = {} " +
+            "for _, field in ipairs(redis.call('HKEYS', KEYS[1])) do " +
+            "  pending[string.match(field, ':(%d+)$')] = true " +
+            "end " +
+            "local n = #KEYS - 1 " +
+            "local fixed = 0 " +
+            "for i = 1, n do " +
+            "  if not pending[ARGV[i]] then " +
+            "    local current = redis.call('GET', KEYS[i + 1]) " +
+            "    if current and current ~= ARGV[n + i] then " +
+            "      redis.call('SET', KEYS[i + 1], ARGV[n + i], 'KEEPTTL') " +
+            "      fixed = fixed + 1 " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return fixed",
+            Long.class);
+
+    // 내가 잡은 반영 잠금만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    // 내가 잡은 반영 잠금만 연장, 반환값: 1 연장됨, 0 잠금을 잃음
+    private static final DefaultRedisScript<Long> RENEW_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+
+    private static final String INSERT_LIKE_SQL =
+            "INSERT INTO bookmark_like (account_id, bookmark_id) " +
+            "SELECT ?, ? FROM DUAL " +
+            "WHERE NOT EXISTS (SELECT 1 FROM bookmark_like WHERE account_id = ? AND bookmark_id = ?) " +
+            "AND EXISTS (SELECT 1 FROM bookmark WHERE id = ?) " +
+            "AND EXISTS (SELECT 1 FROM user WHERE id = ?)";
+
+    private static final String DELETE_LIKE_SQL =
+            "DELETE FROM bookmark_like WHERE account_id = ? AND bookmark_id = ?";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final BookmarkRepository bookmarkRepository;
+    private final BookmarkLikeRepository bookmarkLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private final LocalLruCache<Long, LikedBitmap> likedCache =
+            new LocalLruCache<>(MAX_CACHED_USERS, LIKED_CACHE_TTL_MILLIS);
+
+    // 좋아요 (이미 누른 상태면 false)
+    public boolean like(Long userId, Long bookmarkId) {
+        return toggle(userId, bookmarkId, true);
+    }
+
+    // 좋아요 취소 (누르지 않은 상태면 false)
+    public boolean unlike(Long userId, Long bookmarkId) {
+        return toggle(userId, bookmarkId, false);
+    }
+
+    // 카운터 값 (카운터가 없으면 북마크 컬럼 값)
+    public Long getLikesCount(Long bookmarkId, Long columnValue) {
+        String value = stringRedisTemplate.opsForValue().get(COUNT_KEY_PREFIX + bookmarkId);
+        return value != null ? Long.valueOf(value) : columnValue;
+    }
+
+    // 여러 북마크의 카운터 값 (카운터가 있는 북마크만 포함)
+    public Map<Long, Long> getLikesCounts(List<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(bookmarkIds.stream().map(id -> COUNT_KEY_PREFIX + id).toList());
+
+        Map<Long, Long> result = new HashMap<>();
+        for (int i = 0; values != null && i < bookmarkIds.size(); i++) {
+            if (values.get(i) != null) {
+                result.put(bookmarkIds.get(i), Long.valueOf(values.get(i)));
+            }
+        }
+        return result;
+    }
+
+    public boolean isLiked(Long userId, Long bookmarkId) {
+        LikedBitmap liked = getLikedBitmap(userId);
+        synchronized (liked) {
+            return liked.bitmap.contains(bookmarkId);
+        }
+    }
+
+    // 주어진 북마크 중 사용자가 좋아요를 누른 북마크 ID (한 페이지를 메모리에서 확인)
+    public Set<Long> filterLiked(Long userId, List<Long> bookmarkIds) {
+        if (bookmarkIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        LikedBitmap liked = getLikedBitmap(userId);
+        Set<Long> result = new HashSet<>();
+        synchronized (liked) {
+            for (Long bookmarkId : bookmarkIds) {
+                if (liked.bitmap.contains(bookmarkId)) {
+                    result.add(bookmarkId);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 삭제된 북마크의 카운터 제거 (커밋 이후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkChanged(BookmarkChangedEvent event) {
+        if (event.isDeleted()) {
+            stringRedisTemplate.delete(COUNT_KEY_PREFIX + event.getBookmarkId());
+        }
+    }
+
+    // 대기 중인 좋아요 변경 내역을 DB에 일괄 반영
+    @Scheduled(fixedDelay = 2000)
+    public void flush() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(PENDING_KEY))) {
+            return;
+        }
+
+        String lockToken = UUID.randomUUID().toString();
+        if (!tryLockFlush(lockToken)) {
+            log.debug("좋아요 대기 내역을 다른 서버에서 처리 중입니다.");
+            return;
+        }
+        try {
+            flushPending(lockToken);
+        } finally {
+            unlockFlush(lockToken);
+        }
+    }
+
+    // 반영 도중 서버가 종료되어 남은 처리용 Hash 를 대기 Hash 로 되돌림 (서버 시작 직후에도 실행)
+    // 값은 사용자 Set 의 현재 상태를 기준으로 다시 기록하므로, 그 사이 바뀐 좋아요를 과거 상태로 되돌리지 않음
+    @Scheduled(initialDelay = 10_000, fixedDelay = 60_000)
+    public void recoverOrphanedFlushes() {
+        List<String> orphanedKeys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(FLUSHING_KEY_PREFIX + "*").count(100).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> {
+                if (isOrphanedFlush(key)) {
+                    orphanedKeys.add(key);
+                }
+            });
+        }
+
+        for (String key : orphanedKeys) {
+            Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(key);
+            entries.forEach((field, value) -> {
+                String[] ids = field.toString().split(":");
+                String userKey = USER_KEY_PREFIX + ids[0];
+
+                String state = value.toString();
+                if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(userKey))) {
+                    state = Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(userKey, ids[1])) ? "1" : "0";
+                }
+                stringRedisTemplate.opsForHash().putIfAbsent(PENDING_KEY, field, state);
+            });
+            stringRedisTemplate.delete(key);
+            log.warn("중단된 좋아요 반영 내역 복구 ({}건). key: {}", entries.size(), key);
+        }
+    }
+
+    // 좋아요 카운터를 실제 좋아요 데이터와 맞춤 (반영 대기 중인 북마크는 다음 주기에 확인)
+    @Scheduled(initialDelay = 60_000, fixedDelay = 10 * 60 * 1000L)
+    public void reconcileCounters() {
+        List<Long> bookmarkIds = new ArrayList<>();
+        long fixed = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(COUNT_KEY_PREFIX + "*").count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                bookmarkIds.add(Long.parseLong(cursor.next().substring(COUNT_KEY_PREFIX.length())));
+                if (bookmarkIds.size() == BATCH_SIZE) {
+                    fixed += reconcileWithLock(bookmarkIds);
+                    bookmarkIds.clear();
+                }
+            }
+        }
+        if (!bookmarkIds.isEmpty()) {
+            fixed += reconcileWithLock(bookmarkIds);
+        }
+
+        if (fixed > 0) {
+            log.warn("좋아요 카운터 보정 완료 ({}건)", fixed);
+        }
+    }
+
+    private void flushPending(String lockToken) {
+        // 대기 Hash 를 처리용 키로 옮겨서 이후 변경은 새 대기 Hash 에 쌓이도록 함 (키에 옮긴 시각을 남겨 중단 여부 판단)
+        String flushingKey = FLUSHING_KEY_PREFIX + System.currentTimeMillis() + ":" + UUID.randomUUID();
+        try {
+            stringRedisTemplate.rename(PENDING_KEY, flushingKey);
+        } catch (Exception e) {
+            // 확인 이후 대기 Hash 가 비어 있는 경우
+            return;
+        }
+
+        List<Map.Entry<Object, Object>> entries =
+                new ArrayList<>(stringRedisTemplate.opsForHash().entries(flushingKey).entrySet());
+        Set<Long> bookmarkIds = new HashSet<>();
+        int likeCount = 0;
+        int unlikeCount = 0;
+
+        for (int from = 0; from < entries.size(); from += BATCH_SIZE) {
+            List<long[]> likes = new ArrayList<>();
+            List<long[]> unlikes = new ArrayList<>();
+            entries.subList(from, Math.min(from + BATCH_SIZE, entries.size())).forEach(entry -> {
+                String[] ids = entry.getKey().toString().split(":");
+                long[] pair = {Long.parseLong(ids[0]), Long.parseLong(ids[1])};
+                if ("1".equals(entry.getValue())) {
+                    likes.add(pair);
+                } else {
+                    unlikes.add(pair);
+                }
+            });
+
+            try {
+                applyBatch(likes, unlikes, lockToken);
+            } catch (Exception e) {
+                // 반영하지 못한 내역은 대기 Hash 로 되돌림 (그 사이 새로 들어온 변경이 우선)
+                log.error("좋아요 반영 중단, 남은 {}건은 다음 주기에 재시도합니다.", entries.size() - from, e);
+                entries.subList(from, entries.size()).forEach(entry ->
+                        stringRedisTemplate.opsForHash().putIfAbsent(PENDING_KEY, entry.getKey(), entry.getValue()));
+                stringRedisTemplate.delete(flushingKey);
+                return;
+            }
+
+            likes.forEach(pair -> bookmarkIds.add(pair[1]));
+            unlikes.forEach(pair -> bookmarkIds.add(pair[1]));
+            likeCount += likes.size();
+            unlikeCount += unlikes.size();
+        }
+
+        stringRedisTemplate.delete(flushingKey);
+        log.info("좋아요 반영 완료 (좋아요: {}, 취소: {})", likeCount, unlikeCount);
+
+        // 반영한 북마크의 카운터를 DB 값으로 맞춤 (잠금을 잃었으면 주기적인 보정에 맡김)
+        List<Long> ids = new ArrayList<>(bookmarkIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            if (!renewFlushLock(lockToken)) {
+                return;
+            }
+            reconcile(ids.subList(from, Math.min(from + BATCH_SIZE, ids.size())));
+        }
+    }
+
+    // 묶음 하나를 한 트랜잭션으로 반영
+    // 같은 내역을 다시 반영해도 결과가 같도록 추가는 없을 때만, 좋아요 수는 다시 계산
+    // 커밋 직전에 잠금을 연장하고, 이미 다른 서버가 잠금을 가져갔으면 롤백
+    private void applyBatch(List<long[]> likes, List<long[]> unlikes, String lockToken) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_LIKE_SQL, likes, BATCH_SIZE, (ps, pair) -> {
+                ps.setLong(1, pair[0]);
+                ps.setLong(2, pair[1]);
+                ps.setLong(3, pair[0]);
+                ps.setLong(4, pair[1]);
+                ps.setLong(5, pair[1]);
+                ps.setLong(6, pair[0]);
+            });
+            jdbcTemplate.batchUpdate(DELETE_LIKE_SQL, unlikes, BATCH_SIZE, (ps, pair) -> {
+                ps.setLong(1, pair[0]);
+                ps.setLong(2, pair[1]);
+            });
+            syncLikesCount(likes, unlikes);
+
+            if (!renewFlushLock(lockToken)) {
+                throw new IllegalStateException("좋아요 반영 잠금을 잃었습니다.");
+            }
+        });
+    }
+
+    private long reconcileWithLock(List<Long> bookmarkIds) {
+        String lockToken = UUID.randomUUID().toString();
+        if (!tryLockFlush(lockToken)) {
+            return 0;
+        }
+        try {
+            return reconcile(bookmarkIds);
+        } finally {
+            unlockFlush(lockToken);
+        }
+    }
+
+    // 반영 잠금을 잡은 상태에서 호출 (DB에 반영 중인 변경이 없어야 DB 값과 비교 가능)
+    private long reconcile(List<Long> bookmarkIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        String placeholders = String.join(",", Collections.nCopies(bookmarkIds.size(), "?"));
+        jdbcTemplate.query(
+                "SELECT bookmark_id, COUNT(*) FROM bookmark_like WHERE bookmark_id IN (" + placeholders + ") " +
+                "GROUP BY bookmark_id",
+                rs -> {
+                    counts.put(rs.getLong(1), rs.getLong(2));
+                },
+                bookmarkIds.toArray());
+
+        List<String> keys = new ArrayList<>();
+        keys.add(PENDING_KEY);
+        List<String> args = new ArrayList<>();
+        bookmarkIds.forEach(id -> {
+            keys.add(COUNT_KEY_PREFIX + id);
+            args.add(String.valueOf(id));
+        });
+        bookmarkIds.forEach(id -> args.add(String.valueOf(counts.getOrDefault(id, 0L))));
+
+        Long fixed = stringRedisTemplate.execute(RECONCILE_SCRIPT, keys, args.toArray());
+        return fixed == null ? 0 : fixed;
+    }
+
+    private boolean tryLockFlush(String token) {
+        Boolean acquired = stringRedisTemplate.opsForValue()
+                .setIfAbsent(FLUSH_LOCK_KEY, token, FLUSH_LOCK_MILLIS, TimeUnit.MILLISECONDS);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    private boolean renewFlushLock(String token) {
+        Long renewed = stringRedisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY),
+                token, String.valueOf(FLUSH_LOCK_MILLIS));
+        return renewed != null && renewed == 1;
+    }
+
+    private void unlockFlush(String token) {
+        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(FLUSH_LOCK_KEY), token);
+    }
+
+    // 처리용 키: LIKE:FLUSHING:{옮긴 시각}:{UUID} (시각이 없는 이전 형식의 키는 중단된 것으로 처리)
+    private static boolean isOrphanedFlush(String key) {
+        String rest = key.substring(FLUSHING_KEY_PREFIX.length());
+        int separator = rest.indexOf(':');
+        try {
+            long movedAt = Long.parseLong(separator < 0 ? rest : rest.substring(0, separator));
+            return System.currentTimeMillis() - movedAt > ORPHANED_FLUSH_MILLIS;
+        } catch (NumberFormatException e) {
+            return true;
+        }
+    }
+
+    private boolean toggle(Long userId, Long bookmarkId, boolean like) {
+        ensureCounterLoaded(bookmarkId);
+        ensureUserLoaded(userId);
+
+        List<String> keys = List.of(USER_KEY_PREFIX + userId, COUNT_KEY_PREFIX + bookmarkId, PENDING_KEY,
+                USER_VERSION_KEY_PREFIX + userId);
+        String[] args = {
+                String.valueOf(bookmarkId),
+                userId + ":" + bookmarkId,
+                like ? "1" : "0",
+                String.valueOf(KEY_TTL_SECONDS)
+        };
+
+        Long result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, (Object[]) args);
+        if (result != null && result == -1) {
+            // 확인 직후 키가 만료된 경우 다시 로딩 후 재시도
+            ensureCounterLoaded(bookmarkId);
+            ensureUserLoaded(userId);
+            result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys, (Object[]) args);
+        }
+        if (result == null || result == -1) {
+            throw new IllegalStateException("좋아요 처리 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        if (result > 0) {
+            applyToCachedBitmap(userId, bookmarkId, like, result);
+        }
+        return result > 0;
+    }
+
+    // 이 서버에 캐시된 비트맵이 바로 이전 버전이면 변경을 직접 적용 (그 사이 빠진 변경이 있으면 폐기하고 다음 조회 때 다시 생성)
+    private void applyToCachedBitmap(Long userId, Long bookmarkId, boolean like, long newVersion) {
+        LikedBitmap cached = likedCache.peek(userId);
+        if (cached == null) {
+            return;
+        }
+
+        synchronized (cached) {
+            if (cached.version >= newVersion) {
+                return;
+            }
+            if (cached.version != newVersion - 1) {
+                likedCache.invalidate(userId);
+                return;
+            }
+
+            if (like) {
+                cached.bitmap.add(bookmarkId);
+            } else {
+                cached.bitmap.remove(bookmarkId);
+            }
+            cached.version = newVersion;
+        }
+    }
+
+    // 사용자의 좋아요 비트맵 (없거나 Redis 의 사용자 버전보다 오래되었으면 Redis Set 으로부터 생성)
+    // 버전을 먼저 읽고 Set 을 읽으므로, 생성 중에 바뀐 좋아요는 버전이 달라져 다음 조회 때 다시 생성됨
+    private LikedBitmap getLikedBitmap(Long userId) {
+        long version = currentVersion(userId);
+        LikedBitmap cached = likedCache.get(userId);
+        if (cached != null) {
+            synchronized (cached) {
+                if (cached.version >= version) {
+                    return cached;
+                }
+            }
+        }
+
+        LikedBitmap liked = new LikedBitmap(loadLikedBitmap(userId), version);
+        likedCache.put(userId, liked);
+        return liked;
+    }
+
+    private long currentVersion(Long userId) {
+        String version = stringRedisTemplate.opsForValue().get(USER_VERSION_KEY_PREFIX + userId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private CompressedBitmap loadLikedBitmap(Long userId) {
+        ensureUserLoaded(userId);
+        Set<String> members = stringRedisTemplate.opsForSet().members(USER_KEY_PREFIX + userId);
+
+        CompressedBitmap liked = new CompressedBitmap();
+        if (members != null) {
+            members.stream()
+                    .filter(member -> !LOADED_MARKER.equals(member))
+                    .forEach(member -> liked.add(Long.parseLong(member)));
+        }
+        return liked;
+    }
+
+    // 카운터가 없으면 북마크 컬럼 값으로 생성 (카운터가 있으면 북마크가 존재함이 보장됨)
+    private void ensureCounterLoaded(Long bookmarkId) {
+        String key = COUNT_KEY_PREFIX + bookmarkId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+
+        Long likesCount = bookmarkRepository.findLikesCountById(bookmarkId)
+                .orElseThrow(() -> new EntityNotFoundException("북마크를 찾을 수 없습니다. bookmarkId=" + bookmarkId));
+        stringRedisTemplate.opsForValue()
+                .setIfAbsent(key, String.valueOf(likesCount), KEY_TTL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // 사용자 Set 이 없으면 DB의 좋아요 목록으로 생성 (다른 요청이 먼저 만들었으면 그대로 사용)
+    private void ensureUserLoaded(Long userId) {
+        String key = USER_KEY_PREFIX + userId;
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+            return;
+        }
+
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(KEY_TTL_SECONDS));
+        args.add(LOADED_MARKER);
+        bookmarkLikeRepository.findBookmarkIdsByUserId(userId).forEach(id -> args.add(String.valueOf(id)));
+
+        stringRedisTemplate.execute(LOAD_USER_SCRIPT, List.of(key), args.toArray());
+    }
+
+    // 변경된 북마크의 좋아요 수를 실제 좋아요 데이터로 다시 계산
+    private void syncLikesCount(List<long[]> likes, List<long[]> unlikes) {
+        Set<Long> bookmarkIds = new HashSet<>();
+        likes.forEach(pair -> bookmarkIds.add(pair[1]));
+        unlikes.forEach(pair -> bookmarkIds.add(pair[1]));
+        if (bookmarkIds.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                "UPDATE bookmark SET likes_count = (SELECT COUNT(*) FROM bookmark_like WHERE bookmark_id = ?) WHERE id = ?",
+                bookmarkIds, BATCH_SIZE, (ps, bookmarkId) -> {
+                    ps.setLong(1, bookmarkId);
+                    ps.setLong(2, bookmarkId);
+                });
+    }
+
+    // 사용자 좋아요 비트맵과 반영된 사용자 버전 (이 객체로 동기화)
+    private static final class LikedBitmap {
+        private final CompressedBitmap bitmap;
+        private long version;
+
+        LikedBitmap(CompressedBitmap bitmap, long version) {
+            this.bitmap = bitmap;
+            this.version = version;
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.sonkim.bookmarking.domain.bookmark.service;
 
 import com.sonkim.bookmarking.common.dto.CursorResultDto;
+import com.sonkim.bookmarking.common.dto.KeysetCursor;
 import com.sonkim.bookmarking.common.s3.service.S3Service;
+import com.sonkim.bookmarking.common.service.BookmarkChangedEvent;
 import com.sonkim.bookmarking.common.service.BookmarkCreatedEvent;
+import com.sonkim.bookmarking.common.service.ImageGarbageCollector;
+import com.sonkim.bookmarking.common.util.CompressedBitmap;
+import com.sonkim.bookmarking.common.util.CursorCodec;
+import com.sonkim.bookmarking.common.util.GeoHashUtil;
 import com.sonkim.bookmarking.domain.bookmark.dto.*;
 import com.sonkim.bookmarking.domain.bookmark.entity.BookmarkTag;
-import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkLikeRepository;
+import com.sonkim.bookmarking.domain.bookmark.enums.BookmarkSortType;
+import com.sonkim.bookmarking.domain.bookmark.enums.ImageVariant;
 import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkTagRepository;
 import com.sonkim.bookmarking.domain.category.entity.Category;
+import com.sonkim.bookmarking.domain.search.service.BookmarkSearchIndexService;
+import com.sonkim.bookmarking.domain.search.service.TagFilterIndexService;
+import com.sonkim.bookmarking.domain.search.util.BookmarkTokenizer;
 import com.sonkim.bookmarking.domain.tag.entity.Tag;
 import com.sonkim.bookmarking.domain.tag.service.TagService;
 import com.sonkim.bookmarking.domain.user.entity.User;
@@ -17,7 +27,7 @@ import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
 import com.sonkim.bookmarking.domain.category.service.CategoryService;
 import com.sonkim.bookmarking.domain.team.entity.Team;
 import com.sonkim.bookmarking.domain.team.enums.Permission;
-import com.sonkim.bookmarking.domain.team.service.TeamMemberService;
+import com.sonkim.bookmarking.domain.team.service.TeamAccessContext;
 import com.sonkim.bookmarking.domain.team.service.TeamService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -28,43 +38,68 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @RequiredArgsConstructor
 @Service
 public class BookmarkService {
 
+    // 태그 필터 결과에서 한 번에 DB로 확인할 최소 후보 수
+    private static final int MIN_CANDIDATE_WINDOW = 100;
+
+    // 지도 영역 조회 최대 개수
+    private static final int MAX_MAP_BOOKMARKS = 1000;
+    // 가까운 북마크 조회 최대 개수
+    private static final int MAX_NEAREST_BOOKMARKS = 100;
+    // 가까운 북마크 탐색 시작 반경, 최대 반경 (지구 둘레의 절반)
+    private static final double INITIAL_SEARCH_RADIUS_METERS = 1_000;
+    private static final double MAX_SEARCH_RADIUS_METERS = 20_037_508;
+    // 반경 탐색 중 한 번에 가져올 최대 후보 수
+    private static final int MAX_NEAREST_CANDIDATES = 2000;
+    // 반경 조정 최대 횟수 (한 좌표에 후보가 몰려 있어도 끝나도록)
+    private static final int MAX_RADIUS_ADJUSTMENTS = 20;
+
     private final BookmarkRepository bookmarkRepository;
-    private final BookmarkLikeRepository bookmarkLikeRepository;
     private final BookmarkTagRepository bookmarkTagRepository;
     private final CategoryService categoryService;
     private final TeamService teamService;
-    private final TeamMemberService teamMemberService;
     private final UserService userService;
     private final S3Service s3Service;
     private final ApplicationEventPublisher eventPublisher;
     private final TagService tagService;
+    private final BookmarkSearchIndexService searchIndexService;
+    private final TagFilterIndexService tagFilterIndexService;
+    private final CursorCodec cursorCodec;
+    private final BookmarkEnrichmentService enrichmentService;
+    private final BookmarkLikeBufferService likeBufferService;
+    private final TeamAccessContext teamAccessContext;
+    private final ImageGarbageCollector imageGarbageCollector;
 
     // 북마크 등록
     @Transactional
     public BookmarkResponseDto createBookmark(Long userId, Long teamId, BookmarkRequestDto request) {
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // 요청한 사용자의 그룹 내 역할 확인
-        Permission userPermission = teamMemberService.getUserPermissionInTeam(userId, teamId);
+        Permission userPermission = teamAccessContext.getPermission(userId, teamId);
 
         // 권한이 VIEWER면 예외 발생
         if (userPermission == Permission.VIEWER) {
             throw new AuthorizationDeniedException("북마크를 생성할 권한이 없습니다.");
         }
 
-        User user = userService.getUserById(userId);
-        Team team = teamService.getTeamById(teamId);
+        // 외래 키만 필요하므로 사용자, 그룹은 참조만 사용
+        User user = userService.getUserReference(userId);
+        Team team = teamAccessContext.getTeamReference(teamId);
         Category category = null;
 
         if (request.getCategoryId() != null) {
@@ -99,6 +134,12 @@ public class BookmarkService {
 
         bookmarkRepository.save(bookmark);
 
+        // 그룹, 카테고리 북마크 수 증가
+        teamService.addBookmarkCount(teamId, 1);
+        if (category != null) {
+            categoryService.addBookmarkCount(category.getId(), 1);
+        }
+
         List<Tag> tags = new ArrayList<>();
         List<String> tagNames = request.getTagNames();
         if (tagNames != null && !tagNames.isEmpty()) {
@@ -113,6 +154,12 @@ public class BookmarkService {
             bookmarkTagRepository.saveAll(newBookmarkTags);
         }
 
+        // 검색 색인 추가
+        searchIndexService.indexBookmark(bookmark, tags.stream().map(Tag::getName).toList());
+        eventPublisher.publishEvent(BookmarkChangedEvent.saved(
+                teamId, bookmark.getId(), request.getCategoryId(), tags.stream().map(Tag::getId).toList(),
+                bookmark.getLatitude(), bookmark.getLongitude()));
+
         // 비동기 작업 호출
         if (originalImageUrl != null) {
             eventPublisher.publishEvent(new BookmarkCreatedEvent(bookmark.getId(), originalImageUrl));
@@ -128,6 +175,7 @@ public class BookmarkService {
         BookmarkResponseDto responseDto = BookmarkResponseDto.from(bookmark, isLiked, likesCount, tagInfos);
         String finalImageUrl = getFinalImageUrl(bookmark);
         responseDto.setImageUrl(finalImageUrl);
+        responseDto.setImageVariants(getImageVariants(bookmark));
 
         return responseDto;
     }
@@ -143,9 +191,9 @@ public class BookmarkService {
     public BookmarkResponseDto getBookmarkDetails(Long userID, Long bookmarkId) {
         Bookmark bookmark = getBookmarkById(bookmarkId);
 
-        // 좋아요 수, 좋아요 여부, 태그 정보 조회
-        Long likesCount = bookmarkLikeRepository.countBookmarkLikesByBookmark_Id(bookmarkId);
-        boolean isLiked = bookmarkLikeRepository.existsBookmarkLikeByUser_IdAndBookmark_Id(userID, bookmarkId);
+        // 좋아요 수, 좋아요 여부 (좋아요 버퍼), 태그 정보 조회
+        Long likesCount = likeBufferService.getLikesCount(bookmarkId, bookmark.getLikesCount());
+        boolean isLiked = likeBufferService.isLiked(userID, bookmarkId);
         List<BookmarkResponseDto.TagInfo> tags = bookmark.getBookmarkTags().stream()
                 .map(bookmarkTag -> new BookmarkResponseDto.TagInfo(
                         bookmarkTag.getTag().getId(),
@@ -159,6 +207,7 @@ public class BookmarkService {
         // 이미지 URL 생성
         String finalImageUrl = getFinalImageUrl(bookmark);
         response.setImageUrl(finalImageUrl);
+        response.setImageVariants(getImageVariants(bookmark));
 
         return response;
     }
@@ -169,16 +218,23 @@ public class BookmarkService {
         Bookmark bookmark = getBookmarkById(bookmarkId);
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(bookmark.getTeam().getId());
+        teamAccessContext.validateActive(bookmark.getTeam().getId());
 
         // 요청한 사용자가 북마크를 작성한 사용자인지 확인
         if (!bookmark.getUser().getId().equals(userId)) {
             throw new AuthorizationDeniedException("해당 북마크를 수정할 권한이 없습니다.");
         }
 
-        // 카테고리 업데이트
+        // 카테고리 업데이트 (카테고리가 바뀌면 양쪽 카테고리 북마크 수 조정)
         if(dto.getCategoryId() != null) {
             Category category = categoryService.getCategoryById(dto.getCategoryId());
+            Category oldCategory = bookmark.getCategory();
+            if (oldCategory == null || !oldCategory.getId().equals(category.getId())) {
+                if (oldCategory != null) {
+                    categoryService.addBookmarkCount(oldCategory.getId(), -1);
+                }
+                categoryService.addBookmarkCount(category.getId(), 1);
+            }
             bookmark.updateCategory(category);
         }
 
@@ -189,16 +245,12 @@ public class BookmarkService {
             if (dto.getImageKey().isEmpty()) {
                 // 이미지를 삭제하려는 경우
                 bookmark.updateImageKey(null);
-                if (oldImageKey != null) {
-                    s3Service.deleteFile("bookmarks/", oldImageKey);
-                }
+                deleteImageIfUnused(oldImageKey, bookmarkId);
             } else {
                 // 이미지를 변경하려는 경우
                 String newImageKey = s3Service.moveFileToPermanentStorage("bookmarks/", dto.getImageKey());
                 bookmark.updateImageKey(newImageKey);
-                if (oldImageKey != null) {
-                    s3Service.deleteFile("bookmarks/", oldImageKey);
-                }
+                deleteImageIfUnused(oldImageKey, bookmarkId);
 
                 // 기존 OG 이미지는 삭제
                 if (bookmark.getOriginalImageUrl() != null) {
@@ -207,6 +259,10 @@ public class BookmarkService {
             }
         }
 
+        List<Tag> currentTags = bookmark.getBookmarkTags().stream()
+                .map(BookmarkTag::getTag)
+                .toList();
+
         if (dto.getTagNames() != null) {
             // 현재 북마크에 연결된 태그들 조회
             List<Tag> oldTags = bookmarkTagRepository.findAllByBookmarkId(bookmarkId).stream()
@@ -235,9 +291,21 @@ public class BookmarkService {
                         .build();
                 bookmarkTagRepository.save(bookmarkTag);
             }
+
+            currentTags = newTags;
         }
 
         bookmark.update(dto);
+
+        // 검색 색인 갱신
+        searchIndexService.indexBookmark(bookmark, currentTags.stream().map(Tag::getName).toList());
+        eventPublisher.publishEvent(BookmarkChangedEvent.saved(
+                bookmark.getTeam().getId(),
+                bookmarkId,
+                bookmark.getCategory() != null ? bookmark.getCategory().getId() : null,
+                currentTags.stream().map(Tag::getId).toList(),
+                bookmark.getLatitude(),
+                bookmark.getLongitude()));
     }
 
     // 북마크 삭제
@@ -246,41 +314,275 @@ public class BookmarkService {
         Bookmark bookmark = getBookmarkById(bookmarkId);
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(bookmark.getTeam().getId());
+        teamAccessContext.validateActive(bookmark.getTeam().getId());
 
         // 요청한 사용자가 작성자인지 확인
         boolean isCreator = bookmark.getUser().getId().equals(userId);
 
         // 작성자도, ADMIN도 아니면 예외 발생
-        if (!isCreator && !teamMemberService.validateAdmin(userId, bookmark.getTeam().getId())) {
+        if (!isCreator && !teamAccessContext.validateAdmin(userId, bookmark.getTeam().getId())) {
             throw new AuthorizationDeniedException("북마크를 삭제할 권한이 없습니다.");
         }
 
-        // S3 이미지 삭제
-        s3Service.deleteFile("bookmarks/", bookmark.getImageKey());
+        // S3 이미지 삭제 (다른 북마크가 같은 이미지를 쓰면 유지)
+        deleteImageIfUnused(bookmark.getImageKey(), bookmarkId);
+
+        // 검색 색인 삭제
+        searchIndexService.removeBookmark(bookmarkId);
 
         bookmarkRepository.delete(bookmark);
+
+        // 그룹, 카테고리 북마크 수 감소
+        teamService.addBookmarkCount(bookmark.getTeam().getId(), -1);
+        if (bookmark.getCategory() != null) {
+            categoryService.addBookmarkCount(bookmark.getCategory().getId(), -1);
+        }
+
+        eventPublisher.publishEvent(BookmarkChangedEvent.deleted(bookmark.getTeam().getId(), bookmarkId));
     }
 
     // 북마크 조회
     @Transactional(readOnly = true)
     public CursorResultDto<BookmarkResponseDto> searchBookmarks(
-            Long userId, Long teamId, BookmarkSearchCond cond, Long cursorId, int size
+            Long userId, Long teamId, BookmarkSearchCond cond, Long cursorId, String cursorToken, int size
     ) {
-        // QueryDSL을 사용한 단일 리포지토리 메소드를 통해 검색
-        List<Bookmark> bookmarks = bookmarkRepository.search(teamId, cond, cursorId, size + 1);
+        BookmarkSortType sort = cond.getSortOrDefault();
+        KeysetCursor cursor = resolveCursor(sort, cursorId, cursorToken);
+
+        // 키워드 검색은 그룹의 역색인을 사용하므로 색인 상태 확인
+        if (cond.getKeyword() != null) {
+            searchIndexService.ensureTeamIndexed(teamId);
+        }
+
+        // 관련도순 키워드 검색은 역색인 순위를 따르고, 최신순 태그 검색은 태그 필터 색인을 거치고, 나머지는 바로 DB 검색
+        Set<String> tokens = sort == BookmarkSortType.RELEVANCE ? BookmarkTokenizer.tokenizeQuery(cond.getKeyword()) : null;
+        Map<Long, Long> scores = new HashMap<>();
+        List<BookmarkRowDto> rows;
+        if (tokens != null) {
+            rows = searchByRelevance(teamId, cond, tokens, cursor, size + 1, scores);
+        } else if (cond.hasTagFilter() && sort == BookmarkSortType.LATEST) {
+            rows = searchWithTagFilter(teamId, cond, cursor != null ? cursor.getLongKey(0) : null, size + 1);
+        } else {
+            rows = bookmarkRepository.search(teamId, cond, null, cursor, size + 1);
+        }
 
         // 다음 페이지 존재 여부 확인
         boolean hasNext = false;
-        if (bookmarks.size() > size) {
+        if (rows.size() > size) {
             hasNext = true;
-            bookmarks.remove(size);
+            rows.remove(size);
         }
 
-        // 부가 정보 채우고, 다음 커서 설정 후 반환
-        List<BookmarkResponseDto> dtoList = enrichBookmarksWithDetails(bookmarks, userId);
+        // 태그, 좋아요 정보 채우고, 다음 커서 설정 후 반환
+        List<BookmarkResponseDto> dtoList = toResponseDtos(rows, userId);
         Long nextCursor = dtoList.isEmpty() ? null : dtoList.get(dtoList.size() - 1).getBookmarkId();
-        return new CursorResultDto<>(dtoList, nextCursor, hasNext);
+        String nextCursorToken = rows.isEmpty()
+                ? null
+                : cursorCodec.encode(toCursor(sort, rows.get(rows.size() - 1), scores));
+        return new CursorResultDto<>(dtoList, nextCursor, hasNext, nextCursorToken);
+    }
+
+    // 서명된 커서 우선, 최신순은 기존 ID 커서도 허용
+    private KeysetCursor resolveCursor(BookmarkSortType sort, Long cursorId, String cursorToken) {
+        if (cursorToken != null && !cursorToken.isBlank()) {
+            KeysetCursor cursor = cursorCodec.decode(cursorToken);
+            if (!sort.name().equals(cursor.getSort())) {
+                throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다.");
+            }
+            return cursor;
+        }
+
+        if (cursorId == null) {
+            return null;
+        }
+        if (sort != BookmarkSortType.LATEST) {
+            throw new IllegalArgumentException("최신순 이외의 정렬은 cursorToken 으로 다음 페이지를 요청해야 합니다.");
+        }
+        return new KeysetCursor(sort.name(), List.of(String.valueOf(cursorId)));
+    }
+
+    // 마지막 항목의 정렬 컬럼 값으로 다음 페이지 커서 생성 (관련도순은 점수, 점수가 없으면 0)
+    private KeysetCursor toCursor(BookmarkSortType sort, BookmarkRowDto last, Map<Long, Long> scores) {
+        List<String> keys = switch (sort) {
+            case LATEST -> List.of(String.valueOf(last.getBookmarkId()));
+            case RELEVANCE -> List.of(String.valueOf(scores.getOrDefault(last.getBookmarkId(), 0L)),
+                    String.valueOf(last.getBookmarkId()));
+            case MOST_LIKED -> List.of(String.valueOf(last.getLikesCount()), String.valueOf(last.getBookmarkId()));
+            case TITLE_ASC -> Arrays.asList(last.getTitle(), String.valueOf(last.getBookmarkId()));
+        };
+        return new KeysetCursor(sort.name(), keys);
+    }
+
+    // 프로젝션 결과에 태그, 좋아요 정보를 붙여 응답 DTO로 변환 (태그 조회 쿼리 1회, 좋아요 정보와 동시에 조회)
+    private List<BookmarkResponseDto> toResponseDtos(List<BookmarkRowDto> rows, Long userId) {
+        if (rows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Long> bookmarkIds = rows.stream().map(BookmarkRowDto::getBookmarkId).toList();
+        // 좋아요 수는 반영 대기 중인 변경까지 포함된 카운터 사용 (카운터가 없으면 컬럼 값)
+        BookmarkEnrichmentService.Enrichment enrichment = enrichmentService.enrich(bookmarkIds, userId);
+        Set<Long> likedBookmarkIds = enrichment.getLikedBookmarkIds();
+        Map<Long, Long> likesCounts = enrichment.getLikesCounts();
+        Map<Long, List<BookmarkResponseDto.TagInfo>> tagsMap = enrichment.getTagsMap();
+
+        return rows.stream()
+                .map(row -> BookmarkResponseDto.builder()
+                        .bookmarkId(row.getBookmarkId())
+                        .url(row.getUrl())
+                        .title(row.getTitle())
+                        .description(row.getDescription())
+                        .imageUrl(getFinalImageUrl(row.getImageKey(), row.getOriginalImageUrl()))
+                        .imagePlaceholder(row.getImagePlaceholder())
+                        .imageVariants(getImageVariants(row.getImageKey(), row.getImageVariants()))
+                        .latitude(row.getLatitude())
+                        .longitude(row.getLongitude())
+                        .createdAt(row.getCreatedAt())
+                        .isLiked(likedBookmarkIds.contains(row.getBookmarkId()))
+                        .likesCount(likesCounts.getOrDefault(row.getBookmarkId(), row.getLikesCount()))
+                        .tags(tagsMap.getOrDefault(row.getBookmarkId(), Collections.emptyList()))
+                        .categoryId(row.getCategoryId())
+                        .build())
+                .toList();
+    }
+
+    // 지도 화면 영역 안의 북마크 조회
+    @Transactional(readOnly = true)
+    public List<BookmarkResponseDto> getBookmarksInBoundingBox(
+            Long userId, Long teamId, Long categoryId, BoundingBox box, int size
+    ) {
+        box.validate();
+
+        List<Bookmark> bookmarks = bookmarkRepository.findInBoundingBox(
+                teamId, categoryId, box, Math.min(Math.max(size, 1), MAX_MAP_BOOKMARKS));
+        return enrichBookmarksWithDetails(bookmarks, userId);
+    }
+
+    // 기준 좌표에서 가까운 순으로 북마크 조회
+    @Transactional(readOnly = true)
+    public List<BookmarkResponseDto> getNearestBookmarks(
+            Long userId, Long teamId, Long categoryId, double latitude, double longitude, int k
+    ) {
+        BoundingBox.validateLatitude(latitude);
+        BoundingBox.validateLongitude(longitude);
+        int limit = Math.min(Math.max(k, 1), MAX_NEAREST_BOOKMARKS);
+
+        // 영역 안의 북마크를 모두 가져왔고(후보 수 제한에 걸리지 않음) 반경 안에 k개 이상 있으면,
+        // 반경 밖의 북마크는 반경 안의 어떤 북마크보다도 멀기 때문에 이 후보 안에 가장 가까운 k개가 모두 포함됨
+        // 후보가 부족하면 반경을 넓히고, 후보 수 제한에 걸리면(일부만 조회됨) 반경을 줄여 다시 조회
+        double radius = INITIAL_SEARCH_RADIUS_METERS;
+        double lower = 0;
+        double upper = Double.NaN;
+        List<Bookmark> candidates = List.of();
+        boolean complete = false;
+        for (int attempt = 0; attempt < MAX_RADIUS_ADJUSTMENTS; attempt++) {
+            List<Bookmark> found = bookmarkRepository.findInBoundingBox(
+                    teamId, categoryId, BoundingBox.around(latitude, longitude, radius), MAX_NEAREST_CANDIDATES);
+
+            if (found.size() >= MAX_NEAREST_CANDIDATES) {
+                // 후보 수 제한에 걸린 결과는 끝까지 전체 후보를 얻지 못한 경우에만 사용 (가장 작은 반경의 결과)
+                if (!complete) {
+                    candidates = found;
+                }
+                upper = radius;
+                radius = (lower + upper) / 2;
+                continue;
+            }
+
+            candidates = found;
+            complete = true;
+            final double currentRadius = radius;
+            long withinRadius = found.stream()
+                    .filter(bookmark -> distanceFrom(bookmark, latitude, longitude) <= currentRadius)
+                    .count();
+            if (withinRadius >= limit || radius >= MAX_SEARCH_RADIUS_METERS) {
+                break;
+            }
+
+            lower = radius;
+            radius = Double.isNaN(upper) ? Math.min(radius * 4, MAX_SEARCH_RADIUS_METERS) : (lower + upper) / 2;
+        }
+
+        List<Bookmark> nearest = candidates.stream()
+                .sorted(Comparator.comparingDouble(bookmark -> distanceFrom(bookmark, latitude, longitude)))
+                .limit(limit)
+                .toList();
+        return enrichBookmarksWithDetails(nearest, userId);
+    }
+
+    private double distanceFrom(Bookmark bookmark, double latitude, double longitude) {
+        return GeoHashUtil.distanceMeters(latitude, longitude, bookmark.getLatitude(), bookmark.getLongitude());
+    }
+
+    // 태그 비트맵으로 구한 후보 ID를 커서 아래에서부터 구간 단위로 잘라 나머지 조건을 DB에서 확인
+    private List<BookmarkRowDto> searchWithTagFilter(Long teamId, BookmarkSearchCond cond, Long cursorId, int limit) {
+        CompressedBitmap candidates = tagFilterIndexService.filter(teamId, cond);
+        int windowSize = Math.max(limit * 2, MIN_CANDIDATE_WINDOW);
+
+        List<BookmarkRowDto> result = new ArrayList<>();
+        Long upperBound = cursorId;
+        while (result.size() < limit) {
+            List<Long> window = candidates.descendingBelow(upperBound, windowSize);
+            if (window.isEmpty()) {
+                break;
+            }
+
+            result.addAll(bookmarkRepository.search(teamId, cond, window, null, limit - result.size()));
+
+            if (window.size() < windowSize) {
+                break;
+            }
+            upperBound = window.get(window.size() - 1);
+        }
+        return result;
+    }
+
+    // 역색인에서 관련도 순으로 구한 후보를 구간 단위로 잘라 나머지 조건(검색어 재확인, 태그, 카테고리)을 DB에서 확인
+    // 구간 안의 결과는 다시 후보 순위대로 정렬하고, 사용한 후보의 점수는 scores 에 기록 (다음 페이지 커서용)
+    private List<BookmarkRowDto> searchByRelevance(Long teamId, BookmarkSearchCond cond, Set<String> tokens,
+                                                   KeysetCursor cursor, int limit, Map<Long, Long> scores) {
+        CompressedBitmap tagCandidates = cond.hasTagFilter() ? tagFilterIndexService.filter(teamId, cond) : null;
+        int windowSize = Math.max(limit * 2, MIN_CANDIDATE_WINDOW);
+
+        List<BookmarkRowDto> result = new ArrayList<>();
+        Long afterScore = cursor != null ? cursor.getLongKey(0) : null;
+        Long afterId = cursor != null ? cursor.getLongKey(1) : null;
+        while (result.size() < limit) {
+            List<KeywordHitDto> hits = bookmarkRepository.findKeywordHits(teamId, tokens, afterScore, afterId, windowSize);
+            if (hits.isEmpty()) {
+                break;
+            }
+
+            List<Long> window = hits.stream()
+                    .map(KeywordHitDto::getBookmarkId)
+                    .filter(id -> tagCandidates == null || tagCandidates.contains(id))
+                    .toList();
+            if (!window.isEmpty()) {
+                Map<Long, BookmarkRowDto> rowMap = new HashMap<>();
+                bookmarkRepository.search(teamId, cond, window, null, window.size())
+                        .forEach(row -> rowMap.put(row.getBookmarkId(), row));
+
+                for (KeywordHitDto hit : hits) {
+                    BookmarkRowDto row = rowMap.get(hit.getBookmarkId());
+                    if (row == null) {
+                        continue;
+                    }
+                    result.add(row);
+                    scores.put(hit.getBookmarkId(), hit.getScore());
+                    if (result.size() == limit) {
+                        break;
+                    }
+                }
+            }
+
+            if (hits.size() < windowSize) {
+                break;
+            }
+            KeywordHitDto last = hits.get(hits.size() - 1);
+            afterScore = last.getScore();
+            afterId = last.getBookmarkId();
+        }
+        return result;
     }
 
     // 추가 정보 채우기
@@ -290,26 +592,15 @@ public class BookmarkService {
             return Collections.emptyList();
         }
 
-        // 좋아요 개수, 좋아요 여부, 태그 정보 전부 다 가져오기
-        Map<Long, Long> likesCountMap = bookmarkLikeRepository.findLikesCountForBookmarks(bookmarkIds)
-                .stream().collect(Collectors.toMap(LikeCountDto::getBookmarkId, LikeCountDto::getCount));
-        List<Long> likedBookmarkIds = bookmarkLikeRepository.findLikedBookmarkIdsForUser(userId, bookmarkIds);
-
-        log.info("likedBookmarkIds : " + likedBookmarkIds);
-
-        List<BookmarkTag> allBookmarkTags = bookmarkTagRepository.findAllByBookmarkIdsWithTags(bookmarkIds);
-        Map<Long, List<BookmarkResponseDto.TagInfo>> tagsMap = allBookmarkTags.stream()
-                .collect(Collectors.groupingBy(
-                        bt -> bt.getBookmark().getId(),
-                        Collectors.mapping(
-                                bt -> new BookmarkResponseDto.TagInfo(bt.getTag().getId(), bt.getTag().getName()),
-                                Collectors.toList()
-                        )
-                ));
+        // 좋아요 여부, 좋아요 수, 태그 정보를 동시에 가져오기 (좋아요 개수는 좋아요 카운터, 없으면 북마크 컬럼 사용)
+        BookmarkEnrichmentService.Enrichment enrichment = enrichmentService.enrich(bookmarkIds, userId);
+        Set<Long> likedBookmarkIds = enrichment.getLikedBookmarkIds();
+        Map<Long, List<BookmarkResponseDto.TagInfo>> tagsMap = enrichment.getTagsMap();
+        Map<Long, Long> likesCounts = enrichment.getLikesCounts();
 
         // 데이터 조합 후 반환
         return bookmarks.stream().map(bookmark -> {
-            long likesCount = likesCountMap.getOrDefault(bookmark.getId(), 0L);
+            long likesCount = likesCounts.getOrDefault(bookmark.getId(), bookmark.getLikesCount());
             boolean isLiked = likedBookmarkIds.contains(bookmark.getId());
             List<BookmarkResponseDto.TagInfo> tags = tagsMap.getOrDefault(bookmark.getId(), Collections.emptyList());
 
@@ -317,16 +608,45 @@ public class BookmarkService {
 
             String finalImageUrl = getFinalImageUrl(bookmark);
             dto.setImageUrl(finalImageUrl);
+            dto.setImageVariants(getImageVariants(bookmark));
             return dto;
         }).toList();
     }
 
+    // 다른 북마크가 참조하지 않는 이미지는 삭제 후보로 등록 (커밋 이후 기록, 유예 시간 뒤 다시 확인 후 삭제)
+    private void deleteImageIfUnused(String imageKey, Long bookmarkId) {
+        if (imageKey == null || bookmarkRepository.existsByImageKeyAndIdNot(imageKey, bookmarkId)) {
+            return;
+        }
+        imageGarbageCollector.deleteLater(imageKey);
+    }
+
     private String getFinalImageUrl(Bookmark bookmark) {
-        if (bookmark.getImageKey() != null) {
-            return s3Service.generateImageUrl("bookmarks/", bookmark.getImageKey());
-        } else if (bookmark.getOriginalImageUrl() != null) {
-            return bookmark.getOriginalImageUrl();
+        return getFinalImageUrl(bookmark.getImageKey(), bookmark.getOriginalImageUrl());
+    }
+
+    private String getFinalImageUrl(String imageKey, String originalImageUrl) {
+        if (imageKey != null) {
+            return s3Service.generateImageUrl("bookmarks/", imageKey);
+        } else if (originalImageUrl != null) {
+            return originalImageUrl;
         }
         return null;
     }
+
+    private Map<Integer, String> getImageVariants(Bookmark bookmark) {
+        return getImageVariants(bookmark.getImageKey(), bookmark.getImageVariants());
+    }
+
+    // 너비별 이미지 URL (작은 너비부터)
+    private Map<Integer, String> getImageVariants(String imageKey, Boolean hasVariants) {
+        if (imageKey == null || !Boolean.TRUE.equals(hasVariants)) {
+            return null;
+        }
+        Map<Integer, String> variants = new LinkedHashMap<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            variants.put(variant.getWidth(), s3Service.generateImageUrl("bookmarks/", variant.keyFor(imageKey)));
+        }
+        return variants;
+    }
 }
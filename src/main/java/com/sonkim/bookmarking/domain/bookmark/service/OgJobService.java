@@ -0,0 +1,230 @@
+package com.sonkim.bookmarking.domain.bookmark.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sonkim.bookmarking.common.exception.TooManyRequestsException;
+import com.sonkim.bookmarking.common.util.OGUtil;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
+import com.sonkim.bookmarking.domain.bookmark.dto.OgJobDto;
+import com.sonkim.bookmarking.domain.bookmark.enums.OgJobStatus;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+// OpenGraph 추출 작업 관리
+// 작업을 등록하면 바로 작업 ID를 반환하고, 추출은 전용 스레드 풀에서 수행
+// 작업 상태는 Redis 에 저장해 어느 서버로 조회가 와도 같은 결과를 반환
+// 작업이 끝나면 모든 서버에 알려 각 서버에 연결된 SSE 구독자에게 결과 전달
+@Slf4j
+@Service
+public class OgJobService implements MessageListener {
+
+    private static final String JOB_KEY_PREFIX = "OG:JOB:";
+    private static final String DONE_CHANNEL = "OG:JOB:DONE";
+
+    // 완료된 작업을 보관하는 시간
+    private static final long JOB_TTL_MILLIS = 5 * 60 * 1000L;
+    // 진행 중인 작업 보관 시간 (추출 서버가 중간에 죽은 작업은 이 시간이 지나면 사라짐)
+    private static final long PENDING_TTL_MILLIS = JOB_TTL_MILLIS * 2;
+    // SSE 연결 유지 시간 (Selenium 대기 시간보다 넉넉하게)
+    private static final long SSE_TIMEOUT_MILLIS = 60 * 1000L;
+    // 추출 스레드 풀이 가득 찼을 때 안내하는 재시도 시간(초)
+    private static final long RETRY_AFTER_SECONDS = 5;
+
+    private final OGUtil ogUtil;
+    private final Executor ogExtractExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    // 이 서버에 연결된 작업별 SSE 구독자
+    private final Map<String, Set<SseEmitter>> subscribers = new ConcurrentHashMap<>();
+
+    public OgJobService(OGUtil ogUtil,
+                        @Qualifier("ogExtractExecutor") Executor ogExtractExecutor,
+                        StringRedisTemplate stringRedisTemplate,
+                        ObjectMapper objectMapper,
+                        RedisMessageListenerContainer listenerContainer) {
+        this.ogUtil = ogUtil;
+        this.ogExtractExecutor = ogExtractExecutor;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        listenerContainer.addMessageListener(this, new ChannelTopic(DONE_CHANNEL));
+    }
+
+    // 추출 작업 등록
+    public OgJobDto submit(Long userId, String url) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("URL은 필수입니다.");
+        }
+
+        String jobId = UUID.randomUUID().toString();
+        JobState pending = new JobState(userId, OgJobStatus.PENDING, null, null);
+        // 작업이 먼저 끝나도 상태를 덮어쓰지 않도록 등록 전에 저장
+        save(jobId, pending, PENDING_TTL_MILLIS);
+
+        try {
+            CompletableFuture.supplyAsync(() -> ogUtil.getOpenGraphData(url), ogExtractExecutor)
+                    .whenComplete((result, error) -> complete(jobId, userId, url, result, error));
+        } catch (RejectedExecutionException e) {
+            stringRedisTemplate.delete(JOB_KEY_PREFIX + jobId);
+            throw new TooManyRequestsException("정보 추출 요청이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        return pending.toDto(jobId);
+    }
+
+    // 작업 상태 조회
+    public OgJobDto getJob(Long userId, String jobId) {
+        return findJob(userId, jobId).toDto(jobId);
+    }
+
+    // 작업 결과를 SSE 로 전달 (이미 끝난 작업이면 바로 전달)
+    public SseEmitter subscribe(Long userId, String jobId) {
+        findJob(userId, jobId);
+        SseEmitter emitter = new SseEmitter(SSE_TIMEOUT_MILLIS);
+
+        // 구독자를 먼저 등록한 뒤 상태를 확인해, 그 사이에 끝난 작업의 알림을 놓치지 않도록 함
+        subscribers.computeIfAbsent(jobId, id -> ConcurrentHashMap.newKeySet()).add(emitter);
+        emitter.onCompletion(() -> removeSubscriber(jobId, emitter));
+        emitter.onTimeout(() -> removeSubscriber(jobId, emitter));
+
+        JobState state = load(jobId);
+        if (state == null || state.status() != OgJobStatus.PENDING) {
+            deliver(jobId, emitter, state);
+        }
+        return emitter;
+    }
+
+    // 다른 서버(또는 이 서버)에서 작업이 끝났다는 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String jobId = new String(message.getBody(), StandardCharsets.UTF_8);
+        Set<SseEmitter> emitters = subscribers.get(jobId);
+        if (emitters == null || emitters.isEmpty()) {
+            return;
+        }
+
+        JobState state = load(jobId);
+        for (SseEmitter emitter : emitters) {
+            deliver(jobId, emitter, state);
+        }
+    }
+
+    private void complete(String jobId, Long userId, String url, BookmarkOGDto result, Throwable error) {
+        JobState state;
+        if (error == null) {
+            state = new JobState(userId, OgJobStatus.COMPLETED, result, null);
+        } else {
+            Throwable cause = unwrap(error);
+            log.warn("OG 정보 추출 실패. jobId: {}, URL: {}, 원인: {}", jobId, url, cause.getMessage());
+            // 요청이 많아 거절된 경우에는 다시 시도하도록 안내
+            String message = cause instanceof TooManyRequestsException tooMany
+                    ? tooMany.getMessage()
+                    : "정보를 추출할 수 없는 URL입니다.";
+            state = new JobState(userId, OgJobStatus.FAILED, null, message);
+        }
+
+        try {
+            save(jobId, state, JOB_TTL_MILLIS);
+            stringRedisTemplate.convertAndSend(DONE_CHANNEL, jobId);
+        } catch (RuntimeException e) {
+            log.warn("OG 추출 작업 결과 저장 실패. jobId: {}", jobId, e);
+        }
+    }
+
+    // 구독자에게 결과를 한 번만 전송 (상태가 사라졌으면 실패로 전달)
+    private void deliver(String jobId, SseEmitter emitter, JobState state) {
+        if (!removeSubscriber(jobId, emitter)) {
+            return;
+        }
+
+        OgJobDto dto = state != null
+                ? state.toDto(jobId)
+                : OgJobDto.builder().jobId(jobId).status(OgJobStatus.FAILED).message("정보 추출 작업을 찾을 수 없습니다.").build();
+        try {
+            emitter.send(SseEmitter.event()
+                    .name(dto.getStatus().name().toLowerCase())
+                    .data(dto));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 시간이 초과된 경우
+            emitter.completeWithError(e);
+        }
+    }
+
+    private boolean removeSubscriber(String jobId, SseEmitter emitter) {
+        boolean[] removed = new boolean[1];
+        subscribers.computeIfPresent(jobId, (id, emitters) -> {
+            removed[0] = emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+        return removed[0];
+    }
+
+    private JobState findJob(Long userId, String jobId) {
+        JobState state = load(jobId);
+        // 다른 사용자의 작업은 없는 작업으로 처리
+        if (state == null || !state.userId().equals(userId)) {
+            throw new EntityNotFoundException("정보 추출 작업을 찾을 수 없습니다. jobId=" + jobId);
+        }
+        return state;
+    }
+
+    private JobState load(String jobId) {
+        String json = stringRedisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        if (json == null) {
+            return null;
+        }
+
+        try {
+            return objectMapper.readValue(json, JobState.class);
+        } catch (JsonProcessingException e) {
+            log.warn("OG 추출 작업 상태를 읽을 수 없습니다. jobId: {}", jobId);
+            return null;
+        }
+    }
+
+    private void save(String jobId, JobState state, long ttlMillis) {
+        try {
+            stringRedisTemplate.opsForValue().set(JOB_KEY_PREFIX + jobId, objectMapper.writeValueAsString(state),
+                    ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("정보 추출 작업을 저장할 수 없습니다.", e);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    // Redis 에 저장하는 작업 상태 (요청자 ID 포함)
+    public record JobState(Long userId, OgJobStatus status, BookmarkOGDto result, String message) {
+
+        OgJobDto toDto(String jobId) {
+            return OgJobDto.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .result(result)
+                    .message(message)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.sonkim.bookmarking.domain.bookmark.util;
+
+import com.sonkim.bookmarking.domain.bookmark.dto.MapClusterDto;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Comparator;
+import java.util.List;
+
+// 지도 클러스터 목록을 열 단위 바이너리로 변환
+//
+// [byte]    버전 (1)
+// [varint]  줌 레벨
+// [varint]  클러스터 수 n
+// n x [zigzag varint]  위도 * 1e6 (이전 값과의 차이)
+// n x [zigzag varint]  경도 * 1e6 (이전 값과의 차이)
+// n x [varint]         북마크 수
+// n x [varint]         북마크 ID (북마크 수가 1이 아니면 0)
+public class MapClusterEncoder {
+
+    public static final int VERSION = 1;
+
+    public static byte[] encode(int zoom, List<MapClusterDto> clusters) {
+        // 위도 순으로 정렬하면 위도 차이 값이 작아져 varint 가 짧아짐
+        List<MapClusterDto> sorted = clusters.stream()
+                .sorted(Comparator.comparingDouble(MapClusterDto::getLatitude))
+                .toList();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + sorted.size() * 12);
+        out.write(VERSION);
+        writeVarint(out, zoom);
+        writeVarint(out, sorted.size());
+
+        long previous = 0;
+        for (MapClusterDto cluster : sorted) {
+            long value = toMicroDegrees(cluster.getLatitude());
+            writeVarint(out, zigzag(value - previous));
+            previous = value;
+        }
+
+        previous = 0;
+        for (MapClusterDto cluster : sorted) {
+            long value = toMicroDegrees(cluster.getLongitude());
+            writeVarint(out, zigzag(value - previous));
+            previous = value;
+        }
+
+        for (MapClusterDto cluster : sorted) {
+            writeVarint(out, cluster.getCount());
+        }
+
+        for (MapClusterDto cluster : sorted) {
+            writeVarint(out, cluster.getBookmarkId() != null ? cluster.getBookmarkId() : 0);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static long toMicroDegrees(double degrees) {
+        return Math.round(degrees * 1_000_000);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
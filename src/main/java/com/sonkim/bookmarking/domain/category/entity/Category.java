@@ -4,12 +4,16 @@ import com.sonkim.bookmarking.domain.category.dto.CategoryDto;
 import com.sonkim.bookmarking.domain.team.entity.Team;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Getter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_category_team_position", columnList = "team_id, position")
+})
 public class Category {
 
     @Id
@@ -29,6 +33,12 @@ public class Category {
     @Column(nullable = false)
     private Integer position;
 
+    // 북마크 수 (북마크 추가/삭제/이동 시 쿼리로만 증감하므로 엔티티 수정 시에는 덮어쓰지 않음)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long bookmarkCount = 0L;
+
     public void update(CategoryDto.CategoryRequestDto request) {
         if (request.getName() != null) this.name = request.getName();}
 
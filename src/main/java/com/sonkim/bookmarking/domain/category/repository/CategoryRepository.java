@@ -2,6 +2,9 @@ package com.sonkim.bookmarking.domain.category.repository;
 
 import com.sonkim.bookmarking.domain.category.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -9,4 +12,9 @@ public interface CategoryRepository extends JpaRepository<Category, Long>, Categ
     boolean existsByNameAndTeam_Id(String name, Long teamId);
 
     long countByTeam_Id(Long teamId);
+
+    // 북마크 수 증감
+    @Modifying
+    @Query("UPDATE Category c SET c.bookmarkCount = c.bookmarkCount + :delta WHERE c.id = :categoryId")
+    int addBookmarkCount(@Param("categoryId") Long categoryId, @Param("delta") long delta);
 }
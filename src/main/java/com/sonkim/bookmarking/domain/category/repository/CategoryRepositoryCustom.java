@@ -5,6 +5,6 @@ import com.sonkim.bookmarking.domain.category.dto.CategoryDto;
 import java.util.List;
 
 public interface CategoryRepositoryCustom {
-    // 카테고리 정보와 해당 카테고리에 속한 북마크의 개수를 카운트
+    // 카테고리 정보와 해당 카테고리에 속한 북마크의 개수 (카테고리의 북마크 수 컬럼 사용)
     List<CategoryDto.CategoryResponseDto> findAllWithBookmarkCountByTeamId(Long teamId);
 }
@@ -8,7 +8,6 @@ import lombok.RequiredArgsConstructor;
 import java.util.List;
 
 import static com.sonkim.bookmarking.domain.category.entity.QCategory.category;
-import static com.sonkim.bookmarking.domain.bookmark.entity.QBookmark.bookmark;
 
 @RequiredArgsConstructor
 public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
@@ -21,12 +20,10 @@ public class CategoryRepositoryCustomImpl implements CategoryRepositoryCustom {
                 .select(Projections.constructor(CategoryDto.CategoryResponseDto.class,
                         category.id,
                         category.name,
-                        bookmark.id.count()
+                        category.bookmarkCount
                 ))
                 .from(category)
-                .leftJoin(bookmark).on(bookmark.category.id.eq(category.id))
                 .where(category.team.id.eq(teamId))
-                .groupBy(category.id, category.name)
                 .orderBy(category.position.asc())
                 .fetch();
     }
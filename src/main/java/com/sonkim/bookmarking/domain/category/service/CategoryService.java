@@ -4,8 +4,9 @@ import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
 import com.sonkim.bookmarking.domain.category.dto.CategoryDto;
 import com.sonkim.bookmarking.domain.category.entity.Category;
 import com.sonkim.bookmarking.domain.category.repository.CategoryRepository;
+import com.sonkim.bookmarking.domain.search.service.TagFilterIndexService;
 import com.sonkim.bookmarking.domain.team.entity.Team;
-import com.sonkim.bookmarking.domain.team.service.TeamMemberService;
+import com.sonkim.bookmarking.domain.team.service.TeamAccessContext;
 import com.sonkim.bookmarking.domain.team.service.TeamService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +26,9 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final TeamService teamService;
-    private final TeamMemberService teamMemberService;
+    private final TeamAccessContext teamAccessContext;
     private final BookmarkRepository bookmarkRepository;
+    private final TagFilterIndexService tagFilterIndexService;
 
     // 카테고리 생성
     @Transactional
@@ -34,10 +36,10 @@ public class CategoryService {
         log.info("userId: {}, teamId: {}, categoryName: {} 카테고리 생성 요청", userId, teamId, request.getName());
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // 요청자가 권한이 있는지 검증
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 동일한 이름의 카테고리가 있는지 확인
         if(categoryRepository.existsByNameAndTeam_Id(request.getName(), teamId)) {
@@ -48,7 +50,7 @@ public class CategoryService {
         long currentCategoryCount = categoryRepository.countByTeam_Id(teamId);
 
         // 카테고리 객체 생성 및 저장
-        Team team = teamService.getTeamById(teamId);
+        Team team = teamAccessContext.getTeamReference(teamId);
         Category newCategory = Category.builder()
                 .name(request.getName())
                 .team(team)
@@ -62,11 +64,11 @@ public class CategoryService {
     // 카테고리 목록 조회
     @Transactional(readOnly = true)
     public List<CategoryDto.CategoryResponseDto> getCategoriesByTeam(Long teamId) {
-        // 각 카테고리 정보와 북마크 개수 조회
+        // 각 카테고리 정보와 북마크 개수 조회 (집계 없이 카테고리, 그룹의 북마크 수 컬럼 사용)
         List<CategoryDto.CategoryResponseDto> categoriesWithCount = categoryRepository.findAllWithBookmarkCountByTeamId(teamId);
 
         // 그룹 전체 북마크 개수 조회
-        long totalBookmarkCount = bookmarkRepository.countByTeam_Id(teamId);
+        long totalBookmarkCount = teamService.getBookmarkCount(teamId);
 
         // '전체' 카테고리 생성하여 추가
         CategoryDto.CategoryResponseDto allCategories = CategoryDto.CategoryResponseDto.builder()
@@ -92,10 +94,10 @@ public class CategoryService {
         Long teamId = category.getTeam().getId();
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // 요청자가 권한이 있는지 검사
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 동일한 이름의 카테고리가 있는지 확인
         if(categoryRepository.existsByNameAndTeam_Id(request.getName(), teamId)) {
@@ -118,17 +120,21 @@ public class CategoryService {
         Long teamId = category.getTeam().getId();
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // 요청자가 권한이 있는지 검사
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 해당 카테고리에 속해있던 북마크들을 '미분류' 상태로 분류
+        // 카테고리가 함께 삭제되므로 카테고리 북마크 수는 따로 조정하지 않음 (그룹 북마크 수는 변동 없음)
         bookmarkRepository.bulkSetCategoryToNull(categoryId);
 
         // 카테고리 삭제
         categoryRepository.delete(category);
 
+        // 북마크 카테고리가 일괄 변경되었으므로 태그 필터 색인 재생성
+        tagFilterIndexService.invalidateTeam(teamId);
+
         return getCategoriesByTeam(teamId);
     }
 
@@ -138,7 +144,7 @@ public class CategoryService {
         log.info("userId: {}, teamId: {} 카테고리 순서 수정 요청", userId, teamId);
 
         // 요청자가 EDITOR 권한이 있는지 검사
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 요청된 모든 카테고리 ID 조회
         List<Long> categoryIds = requests.stream().map(CategoryDto.UpdatePositionRequestDto::getCategoryId).toList();
@@ -157,6 +163,12 @@ public class CategoryService {
         }
     }
 
+    // 카테고리 북마크 수 증감
+    @Transactional
+    public void addBookmarkCount(Long categoryId, long delta) {
+        categoryRepository.addBookmarkCount(categoryId, delta);
+    }
+
     public Category getCategoryById(Long categoryId) {
         return categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 카테고리를 찾을 수 없습니다. categoryId:" + categoryId));
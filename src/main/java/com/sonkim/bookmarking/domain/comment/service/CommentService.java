@@ -9,7 +9,7 @@ import com.sonkim.bookmarking.domain.comment.dto.CommentReplyCountDto;
 import com.sonkim.bookmarking.domain.comment.entity.Comment;
 import com.sonkim.bookmarking.domain.comment.enums.CommentStatus;
 import com.sonkim.bookmarking.domain.comment.repository.CommentRepository;
-import com.sonkim.bookmarking.domain.team.service.TeamMemberService;
+import com.sonkim.bookmarking.domain.team.service.TeamAccessContext;
 import com.sonkim.bookmarking.domain.user.entity.User;
 import com.sonkim.bookmarking.domain.user.service.UserService;
 import jakarta.persistence.EntityNotFoundException;
@@ -32,7 +32,7 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final UserService userService;
     private final BookmarkService bookmarkService;
-    private final TeamMemberService teamMemberService;
+    private final TeamAccessContext teamAccessContext;
     private final S3Service s3Service;
 
     // 댓글 등록
@@ -161,7 +161,7 @@ public class CommentService {
 
         // 댓글 작성자 본인과 관리자만 삭제 가능
         if (!isCreator) {
-            teamMemberService.validateAdmin(userId, teamId);
+            teamAccessContext.validateAdmin(userId, teamId);
         }
 
         // 최상위 댓글 OR 답글 분기
@@ -0,0 +1,35 @@
+package com.sonkim.bookmarking.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "bookmark_search_token",
+        indexes = @Index(name = "idx_search_token_team_token", columnList = "team_id, token, bookmark_id, weight"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_token_bookmark_token", columnNames = {"bookmark_id", "token"}))
+public class BookmarkSearchToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 그룹 ID (검색 범위)
+    @Column(name = "team_id", nullable = false)
+    private Long teamId;
+
+    // 북마크 ID
+    @Column(name = "bookmark_id", nullable = false)
+    private Long bookmarkId;
+
+    // n-gram 토큰
+    @Column(nullable = false, length = 8)
+    private String token;
+
+    // 토큰이 나온 필드별 가중치의 합 (검색 결과 순위 계산에 사용)
+    @Column(nullable = false)
+    private int weight;
+}
@@ -0,0 +1,9 @@
+package com.sonkim.bookmarking.domain.search.repository;
+
+import com.sonkim.bookmarking.domain.search.entity.BookmarkSearchToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BookmarkSearchTokenRepository extends JpaRepository<BookmarkSearchToken, Long> {
+}
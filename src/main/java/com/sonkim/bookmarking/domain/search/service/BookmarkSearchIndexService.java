@@ -0,0 +1,137 @@
+package com.sonkim.bookmarking.domain.search.service;
+
+import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
+import com.sonkim.bookmarking.domain.search.util.BookmarkTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookmarkSearchIndexService {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 토큰이 나온 필드별 가중치 (제목 > 태그 > URL 호스트 > 설명)
+    private static final int TITLE_WEIGHT = 4;
+    private static final int TAG_WEIGHT = 3;
+    private static final int HOST_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT IGNORE INTO bookmark_search_token (team_id, bookmark_id, token, weight) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이 서버에서 색인 상태를 확인한 그룹 목록
+    private final Set<Long> verifiedTeamIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Object> rebuildLocks = new ConcurrentHashMap<>();
+
+    // 북마크 색인 추가 및 갱신 (호출한 트랜잭션에 참여)
+    @Transactional
+    public void indexBookmark(Bookmark bookmark, List<String> tagNames) {
+        Map<String, Integer> tokens = extractTokens(bookmark.getTitle(), bookmark.getDescription(), bookmark.getUrl(), tagNames);
+
+        jdbcTemplate.update("DELETE FROM bookmark_search_token WHERE bookmark_id = ?", bookmark.getId());
+        insertTokens(bookmark.getTeam().getId(), bookmark.getId(), tokens);
+    }
+
+    // 북마크 색인 삭제
+    @Transactional
+    public void removeBookmark(Long bookmarkId) {
+        jdbcTemplate.update("DELETE FROM bookmark_search_token WHERE bookmark_id = ?", bookmarkId);
+    }
+
+    // 색인 도입 이전에 만들어진 그룹이면 한 번만 색인을 생성 (그룹별 색인 완료 표시로 판단)
+    // 표시를 먼저 바꿔 행 잠금을 잡으므로 여러 서버가 동시에 확인해도 한 곳에서만 재생성
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureTeamIndexed(Long teamId) {
+        if (verifiedTeamIds.contains(teamId)) {
+            return;
+        }
+
+        synchronized (rebuildLocks.computeIfAbsent(teamId, id -> new Object())) {
+            if (verifiedTeamIds.contains(teamId)) {
+                return;
+            }
+
+            int claimed = jdbcTemplate.update(
+                    "UPDATE team SET search_indexed = 1 WHERE id = ? AND search_indexed = 0", teamId);
+            if (claimed > 0) {
+                log.info("teamId: {} 검색 색인 생성", teamId);
+                rebuildTeamIndex(teamId);
+            }
+
+            verifiedTeamIds.add(teamId);
+        }
+    }
+
+    private void rebuildTeamIndex(Long teamId) {
+        // 북마크별 태그 이름 조회
+        Map<Long, List<String>> tagNamesMap = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT bt.bookmark_id, t.name FROM bookmark_tag bt " +
+                "JOIN tag t ON t.id = bt.tag_id " +
+                "WHERE t.team_id = ?",
+                rs -> {
+                    tagNamesMap.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+                },
+                teamId);
+
+        jdbcTemplate.update("DELETE FROM bookmark_search_token WHERE team_id = ?", teamId);
+
+        // 북마크를 한 건씩 읽으면서 색인 생성
+        jdbcTemplate.query(
+                "SELECT id, url, title, description FROM bookmark WHERE team_id = ?",
+                rs -> {
+                    long bookmarkId = rs.getLong("id");
+                    Map<String, Integer> tokens = extractTokens(
+                            rs.getString("title"),
+                            rs.getString("description"),
+                            rs.getString("url"),
+                            tagNamesMap.getOrDefault(bookmarkId, Collections.emptyList()));
+                    insertTokens(teamId, bookmarkId, tokens);
+                },
+                teamId);
+    }
+
+    // 토큰 -> 가중치 (여러 필드에 나온 토큰은 필드마다 한 번씩 가중치를 더함)
+    private Map<String, Integer> extractTokens(String title, String description, String url, List<String> tagNames) {
+        Map<String, Integer> tokens = new LinkedHashMap<>();
+        addTokens(tokens, BookmarkTokenizer.tokenize(title), TITLE_WEIGHT);
+        addTokens(tokens, BookmarkTokenizer.tokenize(description), DESCRIPTION_WEIGHT);
+        if (url != null) {
+            addTokens(tokens, BookmarkTokenizer.tokenizeHost(url), HOST_WEIGHT);
+        }
+        if (tagNames != null) {
+            Set<String> tagTokens = new LinkedHashSet<>();
+            tagNames.forEach(tagName -> tagTokens.addAll(BookmarkTokenizer.tokenize(tagName)));
+            addTokens(tokens, tagTokens, TAG_WEIGHT);
+        }
+        return tokens;
+    }
+
+    private void addTokens(Map<String, Integer> tokens, Set<String> fieldTokens, int weight) {
+        fieldTokens.forEach(token -> tokens.merge(token, weight, Integer::sum));
+    }
+
+    private void insertTokens(Long teamId, Long bookmarkId, Map<String, Integer> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, tokens.entrySet(), BATCH_SIZE, (ps, token) -> {
+            ps.setLong(1, teamId);
+            ps.setLong(2, bookmarkId);
+            ps.setString(3, token.getKey());
+            ps.setInt(4, token.getValue());
+        });
+    }
+}
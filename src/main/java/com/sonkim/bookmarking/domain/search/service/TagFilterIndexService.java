@@ -0,0 +1,244 @@
+package com.sonkim.bookmarking.domain.search.service;
+
+import com.sonkim.bookmarking.common.service.BookmarkChangedEvent;
+import com.sonkim.bookmarking.common.util.CompressedBitmap;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkSearchCond;
+import com.sonkim.bookmarking.domain.bookmark.enums.TagMatchType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 그룹별 태그, 카테고리 -> 북마크 ID 비트맵 색인
+// 다중 태그 AND/OR/NOT 조건을 DB 조인 없이 메모리에서 계산
+// 그룹이 바뀔 때마다 Redis 의 그룹 버전을 올리고, 조회 시 색인을 만든 시점의 버전과 다르면 다시 생성 (다른 서버의 변경 반영)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TagFilterIndexService {
+
+    // 메모리에 유지할 최대 그룹 수
+    private static final int MAX_CACHED_TEAMS = 1000;
+    // 버전 확인과 별개로 오래된 색인은 주기적으로 재생성
+    private static final long INDEX_TTL_MILLIS = 10 * 60 * 1000L;
+    private static final String VERSION_KEY_PREFIX = "TAGIDX:VER:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<Long, TeamTagIndex> teamIndexes = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, TeamTagIndex> eldest) {
+                    return size() > MAX_CACHED_TEAMS;
+                }
+            });
+    private final Map<Long, Object> buildLocks = new ConcurrentHashMap<>();
+
+    // 태그, 카테고리 조건을 만족하는 북마크 ID 집합 계산
+    public CompressedBitmap filter(Long teamId, BookmarkSearchCond cond) {
+        return getOrBuild(teamId).filter(
+                cond.getIncludedTagIds(),
+                cond.getTagMatch() == null ? TagMatchType.ALL : cond.getTagMatch(),
+                cond.getExcludeTagIds(),
+                cond.getCategoryId());
+    }
+
+    // 북마크 변경 사항 반영 (커밋 이후)
+    // 그룹 버전을 올린 뒤, 이 서버의 색인이 바로 이전 버전일 때만 변경을 직접 적용 (그 사이 다른 변경이 있었으면 폐기)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBookmarkChanged(BookmarkChangedEvent event) {
+        long version = bumpVersion(event.getTeamId());
+
+        // 아직 색인을 만들지 않은 그룹은 조회 시점에 새로 생성
+        TeamTagIndex index = teamIndexes.get(event.getTeamId());
+        if (index == null) {
+            return;
+        }
+
+        if (!index.apply(version, event)) {
+            teamIndexes.remove(event.getTeamId(), index);
+        }
+    }
+
+    // 태그, 카테고리 삭제처럼 여러 북마크가 바뀌는 경우 그룹 색인 폐기 (트랜잭션 커밋 이후)
+    public void invalidateTeam(Long teamId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpVersion(teamId);
+                    teamIndexes.remove(teamId);
+                }
+            });
+        } else {
+            bumpVersion(teamId);
+            teamIndexes.remove(teamId);
+        }
+    }
+
+    private TeamTagIndex getOrBuild(Long teamId) {
+        long version = currentVersion(teamId);
+        TeamTagIndex index = teamIndexes.get(teamId);
+        if (isUsable(index, version)) {
+            return index;
+        }
+
+        synchronized (buildLocks.computeIfAbsent(teamId, id -> new Object())) {
+            index = teamIndexes.get(teamId);
+            if (isUsable(index, version)) {
+                return index;
+            }
+
+            // 버전을 먼저 읽고 DB 를 조회하므로, 생성 중에 들어온 변경은 버전이 달라져 다음 조회 때 다시 생성됨
+            version = currentVersion(teamId);
+            index = buildTeamIndex(teamId, version);
+            teamIndexes.put(teamId, index);
+            return index;
+        }
+    }
+
+    private static boolean isUsable(TeamTagIndex index, long version) {
+        return index != null && !index.isExpired() && index.getVersion() >= version;
+    }
+
+    private long currentVersion(Long teamId) {
+        String version = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    private long bumpVersion(Long teamId) {
+        Long version = stringRedisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + teamId);
+        return version == null ? 0 : version;
+    }
+
+    private TeamTagIndex buildTeamIndex(Long teamId, long version) {
+        TeamTagIndex index = new TeamTagIndex(version);
+
+        jdbcTemplate.query(
+                "SELECT id, category_id FROM bookmark WHERE team_id = ?",
+                rs -> {
+                    long categoryId = rs.getLong("category_id");
+                    index.addBookmark(rs.getLong("id"), rs.wasNull() ? null : categoryId);
+                },
+                teamId);
+
+        jdbcTemplate.query(
+                "SELECT bt.bookmark_id, bt.tag_id FROM bookmark_tag bt " +
+                "JOIN bookmark b ON b.id = bt.bookmark_id " +
+                "WHERE b.team_id = ?",
+                rs -> {
+                    index.addTag(rs.getLong(1), rs.getLong(2));
+                },
+                teamId);
+
+        log.info("teamId: {} 태그 필터 색인 생성 (북마크: {})", teamId, index.all.cardinality());
+        return index;
+    }
+
+    private static final class TeamTagIndex {
+        private final long createdAt = System.currentTimeMillis();
+        // 이 색인에 반영된 그룹 버전
+        private long version;
+        private final CompressedBitmap all = new CompressedBitmap();
+        private final Map<Long, CompressedBitmap> tagBitmaps = new HashMap<>();
+        private final Map<Long, CompressedBitmap> categoryBitmaps = new HashMap<>();
+
+        TeamTagIndex(long version) {
+            this.version = version;
+        }
+
+        synchronized long getVersion() {
+            return version;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() - createdAt > INDEX_TTL_MILLIS;
+        }
+
+        // 바로 다음 버전의 변경만 적용 (이미 반영된 변경이면 무시, 빠진 변경이 있으면 false)
+        synchronized boolean apply(long newVersion, BookmarkChangedEvent event) {
+            if (newVersion <= version) {
+                return true;
+            }
+            if (newVersion != version + 1) {
+                return false;
+            }
+
+            if (event.isDeleted()) {
+                remove(event.getBookmarkId());
+            } else {
+                put(event.getBookmarkId(), event.getCategoryId(), event.getTagIds());
+            }
+            version = newVersion;
+            return true;
+        }
+
+        synchronized void addBookmark(long bookmarkId, Long categoryId) {
+            all.add(bookmarkId);
+            if (categoryId != null) {
+                categoryBitmaps.computeIfAbsent(categoryId, id -> new CompressedBitmap()).add(bookmarkId);
+            }
+        }
+
+        synchronized void addTag(long bookmarkId, long tagId) {
+            tagBitmaps.computeIfAbsent(tagId, id -> new CompressedBitmap()).add(bookmarkId);
+        }
+
+        synchronized void put(long bookmarkId, Long categoryId, List<Long> tagIds) {
+            remove(bookmarkId);
+            addBookmark(bookmarkId, categoryId);
+            if (tagIds != null) {
+                tagIds.forEach(tagId -> addTag(bookmarkId, tagId));
+            }
+        }
+
+        synchronized void remove(long bookmarkId) {
+            all.remove(bookmarkId);
+            tagBitmaps.values().forEach(bitmap -> bitmap.remove(bookmarkId));
+            categoryBitmaps.values().forEach(bitmap -> bitmap.remove(bookmarkId));
+        }
+
+        // 결과는 항상 새 비트맵이므로 호출한 쪽에서 동기화 없이 사용 가능
+        synchronized CompressedBitmap filter(Set<Long> includeTagIds, TagMatchType matchType,
+                                             List<Long> excludeTagIds, Long categoryId) {
+            CompressedBitmap result = null;
+
+            for (Long tagId : includeTagIds) {
+                CompressedBitmap bitmap = tagBitmaps.getOrDefault(tagId, new CompressedBitmap());
+                if (result == null) {
+                    result = bitmap.copy();
+                } else {
+                    result = matchType == TagMatchType.ALL ? result.and(bitmap) : result.or(bitmap);
+                }
+            }
+
+            if (categoryId != null) {
+                CompressedBitmap bitmap = categoryBitmaps.getOrDefault(categoryId, new CompressedBitmap());
+                result = result == null ? bitmap.copy() : result.and(bitmap);
+            }
+
+            if (result == null) {
+                result = all.copy();
+            }
+
+            if (excludeTagIds != null) {
+                for (Long tagId : excludeTagIds) {
+                    CompressedBitmap bitmap = tagBitmaps.get(tagId);
+                    if (bitmap != null) {
+                        result = result.andNot(bitmap);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
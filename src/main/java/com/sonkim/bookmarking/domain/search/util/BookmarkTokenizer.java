@@ -0,0 +1,86 @@
+package com.sonkim.bookmarking.domain.search.util;
+
+import java.net.URI;
+import java.text.Normalizer;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class BookmarkTokenizer {
+
+    // 한글은 형태소 분석 없이도 2-gram 으로 부분 일치 검색이 가능
+    private static final int GRAM_SIZE = 2;
+
+    // 문자, 숫자 외의 문자는 모두 단어 구분자로 취급
+    private static final Pattern WORD_DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 북마크 색인용 토큰 추출 (제목, 설명, 태그 이름)
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : splitWords(text)) {
+            addGrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    // URL 호스트 색인용 토큰 추출 (www, 최상위 도메인 제외)
+    public static Set<String> tokenizeHost(String url) {
+        String host;
+        try {
+            host = URI.create(url.trim()).getHost();
+        } catch (Exception e) {
+            return Collections.emptySet();
+        }
+        if (host == null) {
+            return Collections.emptySet();
+        }
+
+        String[] labels = host.toLowerCase(Locale.ROOT).split("\\.");
+        Set<String> tokens = new LinkedHashSet<>();
+        for (int i = 0; i < labels.length - 1; i++) {
+            if (!labels[i].equals("www")) {
+                tokens.addAll(tokenize(labels[i]));
+            }
+        }
+        return tokens;
+    }
+
+    // 검색어 토큰 추출. n-gram 을 만들 수 없는 짧은 단어가 섞여 있으면 null 반환
+    public static Set<String> tokenizeQuery(String keyword) {
+        String[] words = splitWords(keyword);
+        if (words.length == 0) {
+            return null;
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : words) {
+            if (word.codePointCount(0, word.length()) < GRAM_SIZE) {
+                return null;
+            }
+            addGrams(word, tokens);
+        }
+        return tokens;
+    }
+
+    private static String[] splitWords(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+
+        // 전각/반각, 호환 자모 등을 정규화하고 소문자로 통일
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WORD_DELIMITER.splitAsStream(normalized)
+                .filter(word -> !word.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private static void addGrams(String word, Set<String> tokens) {
+        // 한 글자 단어는 검색어에서도 LIKE 검색으로 처리하므로 색인하지 않음
+        int[] codePoints = word.codePoints().toArray();
+        for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, GRAM_SIZE));
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.sonkim.bookmarking.domain.tag.service;
 
+import com.sonkim.bookmarking.domain.search.service.TagFilterIndexService;
 import com.sonkim.bookmarking.domain.tag.dto.TagDto;
 import com.sonkim.bookmarking.domain.tag.entity.Tag;
 import com.sonkim.bookmarking.domain.tag.repository.TagRepository;
 import com.sonkim.bookmarking.domain.team.entity.Team;
-import com.sonkim.bookmarking.domain.team.service.TeamMemberService;
-import com.sonkim.bookmarking.domain.team.service.TeamService;
+import com.sonkim.bookmarking.domain.team.service.TeamAccessContext;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +22,8 @@ import java.util.stream.Collectors;
 public class TagService {
 
     private final TagRepository tagRepository;
-    private final TeamService teamService;
-    private final TeamMemberService teamMemberService;
+    private final TeamAccessContext teamAccessContext;
+    private final TagFilterIndexService tagFilterIndexService;
 
     // 새로운 태그 생성
     @Transactional
@@ -31,17 +31,17 @@ public class TagService {
         log.info("userId: {}, teamId: {}, tag: {} 생성 요청", userId, teamId, request.getName());
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // EDITOR 권한 검사
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 그룹 내 태그 이름 중복 확인
         if (tagRepository.existsByNameAndTeam_Id(request.getName(), teamId)) {
             throw new IllegalStateException("이미 존재하는 태그입니다.");
         }
 
-        Team team = teamService.getTeamById(teamId);
+        Team team = teamAccessContext.getTeamReference(teamId);
         Tag newTag = Tag.builder()
                 .name(request.getName())
                 .team(team)
@@ -67,17 +67,20 @@ public class TagService {
         log.info("userId: {}, teamId: {}, tagId: {} 삭제 요청", userId, teamId, tagId);
 
         // 그룹 상태 검증
-        teamService.validateGroupIsActive(teamId);
+        teamAccessContext.validateActive(teamId);
 
         // 태그 존재 여부 확인
         tagRepository.findById(tagId)
                 .orElseThrow(() -> new EntityNotFoundException("태그를 찾을 수 없습니다. tagId: " + tagId));
 
         // EDITOR 권한 검사
-        teamMemberService.validateEditor(userId, teamId);
+        teamAccessContext.validateEditor(userId, teamId);
 
         // 태그 삭제
         tagRepository.deleteById(tagId);
+
+        // 삭제된 태그가 연결되어 있던 북마크 반영을 위해 태그 필터 색인 재생성
+        tagFilterIndexService.invalidateTeam(teamId);
     }
 
     // 사용되지 않는 태그 일괄 삭제
@@ -89,8 +92,8 @@ public class TagService {
     // 태그 이름 리스트를 받아 존재하지 않는 태그는 새로 생성
     public List<Tag> findOrCreateTags(Long userId, Long teamId, List<String> tagNames) {
         // EDITOR 권한 검사
-        teamMemberService.validateEditor(userId, teamId);
-        Team team = teamService.getTeamById(teamId);
+        teamAccessContext.validateEditor(userId, teamId);
+        Team team = teamAccessContext.getTeamReference(teamId);
 
         // 이미 존재하는 태그 검사
         List<Tag> existingTags = tagRepository.findByTeam_IdAndNameIn(teamId, tagNames);
@@ -4,6 +4,7 @@ import com.sonkim.bookmarking.domain.team.enums.TeamStatus;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -33,6 +34,14 @@ public class TeamDto {
         private LocalDateTime deletionScheduledAt;
     }
 
+    // 그룹 상태 (그룹 상태 캐시용)
+    @Data
+    @AllArgsConstructor
+    public static class TeamStatusDto {
+        private TeamStatus status;
+        private LocalDateTime deletionScheduledAt;
+    }
+
     // 그룹 정보 조회(owner 제외)
     @Data
     @Builder
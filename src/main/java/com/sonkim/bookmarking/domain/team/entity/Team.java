@@ -5,6 +5,7 @@ import com.sonkim.bookmarking.domain.team.enums.TeamStatus;
 import com.sonkim.bookmarking.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -49,6 +50,19 @@ public class Team {
     // 삭제 예정일
     private LocalDateTime deletionScheduledAt;
 
+    // 북마크 수 (북마크 추가/삭제 시 쿼리로만 증감하므로 엔티티 수정 시에는 덮어쓰지 않음)
+    @Builder.Default
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private Long bookmarkCount = 0L;
+
+    // 키워드 검색 색인 완료 여부 (기존 그룹은 DB 기본값 false 로 시작해 첫 검색 때 한 번 색인)
+    // 새 그룹의 북마크는 등록 시점부터 색인되므로 true 로 생성, 이후에는 색인 서비스만 변경
+    @Builder.Default
+    @ColumnDefault("false")
+    @Column(nullable = false, updatable = false)
+    private Boolean searchIndexed = true;
+
     public void update(TeamDto.TeamRequestDto teamRequestDto) {
         if (teamRequestDto.getName() != null) this.name = teamRequestDto.getName();
         if (teamRequestDto.getDescription() != null) this.description = teamRequestDto.getDescription();
@@ -1,9 +1,12 @@
 package com.sonkim.bookmarking.domain.team.repository;
 
+import com.sonkim.bookmarking.domain.team.dto.TeamDto;
 import com.sonkim.bookmarking.domain.team.entity.Team;
 import com.sonkim.bookmarking.domain.team.enums.TeamStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -22,4 +25,18 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
     List<Team> findOrphanedTeams();
 
     List<Team> findAllByOwner_Id(Long ownerId);
+
+    // 그룹 상태 조회 (엔티티 없이 상태 컬럼만)
+    @Query("SELECT new com.sonkim.bookmarking.domain.team.dto.TeamDto$TeamStatusDto(t.status, t.deletionScheduledAt) " +
+            "FROM Team t WHERE t.id = :teamId")
+    Optional<TeamDto.TeamStatusDto> findStatusById(@Param("teamId") Long teamId);
+
+    // 북마크 수 조회
+    @Query("SELECT t.bookmarkCount FROM Team t WHERE t.id = :teamId")
+    Optional<Long> findBookmarkCountById(@Param("teamId") Long teamId);
+
+    // 북마크 수 증감
+    @Modifying
+    @Query("UPDATE Team t SET t.bookmarkCount = t.bookmarkCount + :delta WHERE t.id = :teamId")
+    int addBookmarkCount(@Param("teamId") Long teamId, @Param("delta") long delta);
 }
@@ -0,0 +1,80 @@
+package com.sonkim.bookmarking.domain.team.service;
+
+import com.sonkim.bookmarking.domain.team.entity.Team;
+import com.sonkim.bookmarking.domain.team.enums.Permission;
+import com.sonkim.bookmarking.domain.team.enums.TeamStatus;
+import com.sonkim.bookmarking.domain.team.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authorization.AuthorizationDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+// 요청 단위 그룹 접근 정보 (그룹 상태, 요청자 권한)
+// 한 요청 안에서 여러 서비스가 같은 그룹을 검사해도 한 번만 조회하고, 요청 밖(비동기, 스케줄러)에서는 매번 조회
+@Component
+@RequiredArgsConstructor
+public class TeamAccessContext {
+
+    private static final String STATUS_ATTRIBUTE_PREFIX = TeamAccessContext.class.getName() + ".status.";
+    private static final String PERMISSION_ATTRIBUTE_PREFIX = TeamAccessContext.class.getName() + ".permission.";
+
+    private final TeamStatusRegistry teamStatusRegistry;
+    private final TeamMemberService teamMemberService;
+    private final TeamRepository teamRepository;
+
+    // 그룹 상태 (없는 그룹이면 예외 발생)
+    public TeamStatus getStatus(Long teamId) {
+        return resolve(STATUS_ATTRIBUTE_PREFIX + teamId,
+                () -> teamStatusRegistry.getStatus(teamId).getStatus());
+    }
+
+    // 요청자의 그룹 내 권한 (멤버가 아니면 예외 발생)
+    public Permission getPermission(Long userId, Long teamId) {
+        return resolve(PERMISSION_ATTRIBUTE_PREFIX + userId + ":" + teamId,
+                () -> teamMemberService.getUserPermissionInTeam(userId, teamId));
+    }
+
+    // 삭제 예정인 그룹이면 예외 발생
+    public void validateActive(Long teamId) {
+        if (getStatus(teamId) == TeamStatus.PENDING_DELETION) {
+            throw new IllegalStateException("삭제가 예정된 그룹에서는 이 작업을 수행할 수 없습니다.");
+        }
+    }
+
+    public void validateEditor(Long userId, Long teamId) {
+        if (getPermission(userId, teamId) == Permission.VIEWER) {
+            throw new AuthorizationDeniedException("해당 명령을 수행할 권한이 없습니다.");
+        }
+    }
+
+    public boolean validateAdmin(Long userId, Long teamId) {
+        if (getPermission(userId, teamId) != Permission.ADMIN) {
+            throw new AuthorizationDeniedException("해당 명령을 수행할 권한이 없습니다.");
+        }
+        return true;
+    }
+
+    // 외래 키 설정용 그룹 참조 (그룹 존재 여부는 상태 조회로 확인, 엔티티는 조회하지 않음)
+    public Team getTeamReference(Long teamId) {
+        getStatus(teamId);
+        return teamRepository.getReferenceById(teamId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T resolve(String attributeName, Supplier<T> loader) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return loader.get();
+        }
+
+        T value = (T) attributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (value == null) {
+            value = loader.get();
+            attributes.setAttribute(attributeName, value, RequestAttributes.SCOPE_REQUEST);
+        }
+        return value;
+    }
+}
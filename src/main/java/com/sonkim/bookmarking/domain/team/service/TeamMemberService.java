@@ -27,10 +27,12 @@ public class TeamMemberService {
     private final TeamMemberRepository teamMemberRepository;
     private final S3Service s3Service;
     private final TeamRepository teamRepository;
+    private final TeamPermissionCache permissionCache;
 
     @Transactional
     public void save(TeamMember teamMember) {
         teamMemberRepository.save(teamMember);
+        permissionCache.evict(teamMember.getUser().getId(), teamMember.getTeam().getId());
     }
 
     @Transactional
@@ -38,12 +40,17 @@ public class TeamMemberService {
         return teamMemberRepository.findAllByUser_Id(userId);
     }
 
+    // 권한 캐시에 없을 때만 DB 조회 (멤버가 아니면 캐시하지 않고 예외 발생)
     @Transactional(readOnly = true)
     public Permission getUserPermissionInTeam(Long userId, Long teamId) {
-        TeamMember member = teamMemberRepository.getTeamMemberByUser_IdAndTeam_Id(userId, teamId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 유저 혹은 그룹을 찾을 수 없습니다. userId=" + userId + " teamId=" + teamId));
+        return permissionCache.get(userId, teamId, () -> teamMemberRepository.getTeamMemberByUser_IdAndTeam_Id(userId, teamId)
+                .orElseThrow(() -> new EntityNotFoundException("해당 유저 혹은 그룹을 찾을 수 없습니다. userId=" + userId + " teamId=" + teamId))
+                .getPermission());
+    }
 
-        return member.getPermission();
+    // 멤버 권한 변경 반영
+    public void evictPermission(Long userId, Long teamId) {
+        permissionCache.evict(userId, teamId);
     }
 
     @Transactional(readOnly = true)
@@ -121,6 +128,7 @@ public class TeamMemberService {
 
         // 역할 업데이트
         member.updatePermission(dto.getPermission());
+        permissionCache.evict(memberId, teamId);
     }
 
     @Transactional
@@ -146,6 +154,7 @@ public class TeamMemberService {
         TeamMember memberToKick = teamMemberRepository.getTeamMemberByUser_IdAndTeam_Id(memberId, teamId)
                 .orElseThrow(() -> new EntityNotFoundException("해당 유저 혹은 그룹을 찾을 수 없습니다. teamId: " + teamId + ", memberId: " + memberId));
         teamMemberRepository.delete(memberToKick);
+        permissionCache.evict(memberId, teamId);
     }
 
     @Transactional
@@ -165,6 +174,7 @@ public class TeamMemberService {
 
         // 멤버십 정보 삭제
         teamMemberRepository.delete(member);
+        permissionCache.evict(userId, teamId);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,188 @@
+package com.sonkim.bookmarking.domain.team.service;
+
+import com.sonkim.bookmarking.common.util.LocalLruCache;
+import com.sonkim.bookmarking.domain.team.enums.Permission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// 그룹 멤버 권한 캐시
+// 서버 메모리(L1) -> Redis(L2) -> DB 순으로 조회
+// 권한이 바뀌면 커밋 이후 Redis 키를 지우고, 다른 서버의 L1도 지우도록 Redis 채널로 알림
+// 권한이 바뀔 때마다 (사용자, 그룹)별 버전을 올리고, DB에서 읽은 값은 읽기 전 버전이 그대로일 때만 Redis 에 저장
+// (변경 직전에 읽은 권한이 삭제 이후에 다시 저장되어 강퇴·강등된 멤버가 권한을 유지하는 일이 없도록)
+@Slf4j
+@Component
+public class TeamPermissionCache implements MessageListener {
+
+    private static final String KEY_PREFIX = "PERM:";
+    private static final String VERSION_KEY_PREFIX = "PERM:VER:";
+    private static final String EVICT_CHANNEL = "PERM:EVICT";
+
+    private static final int MAX_LOCAL_ENTRIES = 20_000;
+    // 알림을 받지 못한 경우에도 이 시간이 지나면 다시 조회
+    private static final long LOCAL_TTL_MILLIS = 60 * 1000L;
+    private static final long REDIS_TTL_SECONDS = TimeUnit.MINUTES.toSeconds(10);
+    // 버전은 진행 중인 조회보다 오래 유지되면 충분
+    private static final long VERSION_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+    // L1 저장 전 삭제 여부를 확인하기 위한 키별 변경 번호 (키로 나눈 고정 개수)
+    private static final int GENERATION_STRIPES = 1024;
+
+    // 읽기 전 버전이 그대로일 때만 저장
+    // KEYS[1]: 권한, KEYS[2]: 버전, ARGV[1]: 읽기 전 버전 (없으면 빈 문자열), ARGV[2]: 권한, ARGV[3]: 만료 시간
+    private static final DefaultRedisScript<Long> SET_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    // 버전을 올리고 권한 삭제
+    private static final DefaultRedisScript<Long> BUMP_VERSION_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalLruCache<String, Permission> localCache =
+            new LocalLruCache<>(MAX_LOCAL_ENTRIES, LOCAL_TTL_MILLIS);
+    private final AtomicLong[] localGenerations = createGenerations();
+
+    private final AtomicLong redisHitCount = new AtomicLong();
+    private final AtomicLong dbLoadCount = new AtomicLong();
+
+    public TeamPermissionCache(StringRedisTemplate stringRedisTemplate,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    // 캐시에 없으면 loader 로 조회한 뒤 저장
+    public Permission get(Long userId, Long teamId, Supplier<Permission> loader) {
+        String key = cacheKey(userId, teamId);
+
+        Permission permission = localCache.get(key);
+        if (permission != null) {
+            return permission;
+        }
+
+        AtomicLong generation = generationOf(key);
+        long localGeneration = generation.get();
+
+        // 권한과 버전을 한 번에 조회
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(KEY_PREFIX + key, VERSION_KEY_PREFIX + key));
+        String cached = values != null ? values.get(0) : null;
+        String version = values != null ? values.get(1) : null;
+
+        if (cached != null) {
+            redisHitCount.incrementAndGet();
+            permission = Permission.valueOf(cached);
+            putLocal(key, permission, generation, localGeneration);
+            return permission;
+        }
+
+        dbLoadCount.incrementAndGet();
+        permission = loader.get();
+        Long stored = stringRedisTemplate.execute(SET_IF_VERSION_SCRIPT,
+                List.of(KEY_PREFIX + key, VERSION_KEY_PREFIX + key),
+                version == null ? "" : version, permission.name(), String.valueOf(REDIS_TTL_SECONDS));
+
+        // 조회 도중 권한이 바뀌었으면 이번 요청에만 사용하고 캐시하지 않음
+        if (stored != null && stored == 1) {
+            putLocal(key, permission, generation, localGeneration);
+        }
+        return permission;
+    }
+
+    // 권한 변경 반영 (트랜잭션 안이면 커밋 이후)
+    public void evict(Long userId, Long teamId) {
+        String key = cacheKey(userId, teamId);
+        invalidateLocal(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(key);
+                }
+            });
+        } else {
+            evictEverywhere(key);
+        }
+    }
+
+    // 다른 서버에서 보낸 삭제 알림
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        invalidateLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedRate = 10 * 60 * 1000L)
+    public void logStats() {
+        long localHits = localCache.getHitCount();
+        long redisHits = redisHitCount.get();
+        long dbLoads = dbLoadCount.get();
+        long total = localHits + redisHits + dbLoads;
+        if (total == 0) {
+            return;
+        }
+
+        log.info("권한 캐시 통계 - 조회: {}, 메모리 적중: {}, Redis 적중: {}, DB 조회: {} (DB 조회 절감률: {}%)",
+                total, localHits, redisHits, dbLoads, Math.round((total - dbLoads) * 100.0 / total));
+    }
+
+    private void evictEverywhere(String key) {
+        invalidateLocal(key);
+        stringRedisTemplate.execute(BUMP_VERSION_SCRIPT,
+                List.of(KEY_PREFIX + key, VERSION_KEY_PREFIX + key), String.valueOf(VERSION_TTL_SECONDS));
+        stringRedisTemplate.convertAndSend(EVICT_CHANNEL, key);
+    }
+
+    // 조회를 시작한 이후 삭제된 적이 없을 때만 L1 에 저장
+    private void putLocal(String key, Permission permission, AtomicLong generation, long localGeneration) {
+        synchronized (generation) {
+            if (generation.get() == localGeneration) {
+                localCache.put(key, permission);
+            }
+        }
+    }
+
+    private void invalidateLocal(String key) {
+        AtomicLong generation = generationOf(key);
+        synchronized (generation) {
+            generation.incrementAndGet();
+            localCache.invalidate(key);
+        }
+    }
+
+    private AtomicLong generationOf(String key) {
+        return localGenerations[Math.floorMod(key.hashCode(), GENERATION_STRIPES)];
+    }
+
+    private static AtomicLong[] createGenerations() {
+        AtomicLong[] generations = new AtomicLong[GENERATION_STRIPES];
+        for (int i = 0; i < GENERATION_STRIPES; i++) {
+            generations[i] = new AtomicLong();
+        }
+        return generations;
+    }
+
+    private static String cacheKey(Long userId, Long teamId) {
+        return userId + ":" + teamId;
+    }
+}
@@ -30,6 +30,7 @@ public class TeamService {
     private final TeamRepository teamRepository;
     private final UserService userService;
     private final TeamMemberService teamMemberService;
+    private final TeamStatusRegistry teamStatusRegistry;
 
     @Transactional
     public void saveTeam(Team team) {
@@ -48,6 +49,18 @@ public class TeamService {
                 .orElseThrow(() -> new EntityNotFoundException("그룹 정보를 찾을 수 없습니다. inviteCode=" + inviteCode));
     }
 
+    // 그룹 전체 북마크 수
+    @Transactional(readOnly = true)
+    public long getBookmarkCount(Long teamId) {
+        return teamRepository.findBookmarkCountById(teamId).orElse(0L);
+    }
+
+    // 그룹 북마크 수 증감
+    @Transactional
+    public void addBookmarkCount(Long teamId, long delta) {
+        teamRepository.addBookmarkCount(teamId, delta);
+    }
+
     @Transactional(readOnly = true)
     public String getInviteCodeByTeamId(Long teamId) {
         Team team = getTeamById(teamId);
@@ -209,6 +222,7 @@ public class TeamService {
 
         // 그룹 삭제 요청
         team.scheduleDeletion();
+        teamStatusRegistry.evict(teamId);
     }
 
     // 그룹 삭제 취소 요청
@@ -224,6 +238,7 @@ public class TeamService {
 
         // 그룹 삭제 취소 요청
         team.cancelDeletion();
+        teamStatusRegistry.evict(teamId);
     }
 
     // 삭제가 예정된 그룹들 삭제
@@ -235,13 +250,13 @@ public class TeamService {
         );
 
         teamRepository.deleteAll(teamsToDelete);
+        teamStatusRegistry.evictAll();
     }
 
     // 그룹 상태 확인(삭제 예정인 그룹인 읽기만 가능)
-    @Transactional(readOnly = true)
+    // 그룹 상태 캐시를 사용하므로 대부분 쿼리 없이 확인
     public void validateGroupIsActive(Long teamId) {
-        Team team = getTeamById(teamId);
-        if (team.getStatus() == TeamStatus.PENDING_DELETION)
+        if (teamStatusRegistry.getStatus(teamId).getStatus() == TeamStatus.PENDING_DELETION)
             throw new IllegalStateException("삭제가 예정된 그룹에서는 이 작업을 수행할 수 없습니다.");
     }
 
@@ -253,6 +268,7 @@ public class TeamService {
         if (!orphanedTeams.isEmpty()) {
             log.info("{}개의 주인 없는 그룹을 삭제합니다.", orphanedTeams.size());
             teamRepository.deleteAll(orphanedTeams);
+            teamStatusRegistry.evictAll();
         }
     }
 
@@ -291,5 +307,6 @@ public class TeamService {
         // 소유주 변경
         newOwnerMembership.updatePermission(Permission.ADMIN);
         team.updateOwner(newOwner);
+        teamMemberService.evictPermission(newOwnerId, teamId);
     }
 }
@@ -0,0 +1,98 @@
+package com.sonkim.bookmarking.domain.team.service;
+
+import com.sonkim.bookmarking.common.util.LocalLruCache;
+import com.sonkim.bookmarking.domain.team.dto.TeamDto;
+import com.sonkim.bookmarking.domain.team.repository.TeamRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+// 그룹 상태(활성/삭제 예정) 캐시
+// 처음 조회할 때 상태 컬럼만 읽어 서버 메모리에 두고, 상태가 바뀌면 커밋 이후 Redis 의 그룹 버전(여러 그룹이면 전체 버전)을 올림
+// 조회 시 캐시한 시점의 버전과 다르면 다시 조회 (알림 유실과 관계없이 다른 서버의 변경 반영)
+// 버전을 먼저 읽고 DB 를 조회하므로, 조회 도중 바뀐 상태는 버전이 달라져 다음 조회 때 다시 읽음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TeamStatusRegistry {
+
+    private static final String VERSION_KEY_PREFIX = "TEAM:STATUS:VER:";
+    private static final String ALL_VERSION_KEY = "TEAM:STATUS:VER:ALL";
+
+    private static final int MAX_ENTRIES = 50_000;
+    // 버전 확인과 별개로 오래된 상태는 주기적으로 다시 조회
+    private static final long TTL_MILLIS = 5 * 60 * 1000L;
+    // 버전은 캐시 유효시간보다 오래 유지되면 충분
+    private static final long VERSION_TTL_SECONDS = TimeUnit.DAYS.toSeconds(1);
+
+    private final TeamRepository teamRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocalLruCache<Long, CachedStatus> statuses = new LocalLruCache<>(MAX_ENTRIES, TTL_MILLIS);
+
+    // 그룹 상태 조회 (없는 그룹이면 예외 발생)
+    public TeamDto.TeamStatusDto getStatus(Long teamId) {
+        // 그룹 버전과 전체 버전을 한 번에 조회
+        List<String> versions = stringRedisTemplate.opsForValue()
+                .multiGet(List.of(VERSION_KEY_PREFIX + teamId, ALL_VERSION_KEY));
+        String version = versions != null ? versions.get(0) : null;
+        String allVersion = versions != null ? versions.get(1) : null;
+
+        CachedStatus cached = statuses.get(teamId);
+        if (cached != null && cached.isCurrent(version, allVersion)) {
+            return cached.status();
+        }
+
+        TeamDto.TeamStatusDto status = teamRepository.findStatusById(teamId)
+                .orElseThrow(() -> new EntityNotFoundException("그룹 정보를 찾을 수 없습니다. teamId=" + teamId));
+        statuses.put(teamId, new CachedStatus(status, version, allVersion));
+        return status;
+    }
+
+    // 그룹 상태 변경 반영 (트랜잭션 안이면 커밋 이후)
+    public void evict(Long teamId) {
+        statuses.invalidate(teamId);
+        afterCommit(() -> {
+            String key = VERSION_KEY_PREFIX + teamId;
+            stringRedisTemplate.opsForValue().increment(key);
+            stringRedisTemplate.expire(key, VERSION_TTL_SECONDS, TimeUnit.SECONDS);
+            statuses.invalidate(teamId);
+        });
+    }
+
+    // 여러 그룹이 한 번에 삭제된 경우
+    public void evictAll() {
+        statuses.invalidateAll();
+        afterCommit(() -> {
+            stringRedisTemplate.opsForValue().increment(ALL_VERSION_KEY);
+            statuses.invalidateAll();
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 상태와 조회 직전에 읽은 버전
+    private record CachedStatus(TeamDto.TeamStatusDto status, String version, String allVersion) {
+        boolean isCurrent(String currentVersion, String currentAllVersion) {
+            return Objects.equals(version, currentVersion) && Objects.equals(allVersion, currentAllVersion);
+        }
+    }
+}
@@ -20,4 +20,9 @@ public class UserService {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("사용자가 존재하지 않습니다. userId: " + userId));
     }
+
+    // 외래 키 설정용 사용자 참조 (인증된 사용자 ID에만 사용, 엔티티는 조회하지 않음)
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
 }
@@ -0,0 +1,62 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 기대값은 woltapp/blurhash C 인코더(encode.c)와 같은 계산으로 구한 값
+class BlurHashTest {
+
+    @Test
+    @DisplayName("검은색 단색 이미지는 AC 성분이 모두 0인 해시가 된다")
+    void encodesSolidBlack() {
+        int[] pixels = new int[4 * 3];
+
+        assertThat(BlurHash.encode(pixels, 4, 3, 4, 3)).isEqualTo("L00000fQfQfQfQfQfQfQfQfQfQfQ");
+    }
+
+    @Test
+    @DisplayName("흰색 단색 이미지는 참조 인코더와 같은 해시가 된다")
+    void encodesSolidWhite() {
+        int[] pixels = new int[4 * 3];
+        Arrays.fill(pixels, 0xFFFFFF);
+
+        assertThat(BlurHash.encode(pixels, 4, 3, 4, 3)).isEqualTo("L~TSUA~qfQ~q~q%MfQ%MfQfQfQfQ");
+    }
+
+    @ParameterizedTest(name = "{0}x{1} -> {2}")
+    @DisplayName("그라데이션 이미지는 참조 인코더와 같은 해시가 된다")
+    @CsvSource(delimiter = '|', textBlock = """
+            4 | 3 | LsGu,V2@wxozqSWEjte=gJfjfQfj
+            3 | 3 | KsGu,V2@wxqSWEjtgJfjfQ
+            """)
+    void encodesGradient(int componentsX, int componentsY, String expected) {
+        int[] pixels = new int[16 * 16];
+        for (int y = 0; y < 16; y++) {
+            for (int x = 0; x < 16; x++) {
+                pixels[y * 16 + x] = ((x * 16) << 16) | ((y * 16) << 8) | 0x80;
+            }
+        }
+
+        assertThat(BlurHash.encode(pixels, 16, 16, componentsX, componentsY)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @DisplayName("성분 수가 1~9 범위를 벗어나면 예외가 발생한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            0  | 3
+            4  | 0
+            10 | 3
+            4  | 10
+            """)
+    void rejectsInvalidComponents(int componentsX, int componentsY) {
+        assertThatThrownBy(() -> BlurHash.encode(new int[16], 4, 4, componentsX, componentsY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
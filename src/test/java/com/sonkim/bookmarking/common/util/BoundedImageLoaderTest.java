@@ -0,0 +1,127 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedImageLoaderTest {
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @DisplayName("VP8X 헤더의 캔버스 크기(24비트)를 읽는다")
+    @CsvSource(delimiter = '|', textBlock = """
+            1        | 1
+            4000     | 4000
+            16383    | 16384
+            16777216 | 3
+            """)
+    void readsVp8xSize(int width, int height) {
+        byte[] bytes = riff("VP8X");
+        putUInt24(bytes, 24, width - 1);
+        putUInt24(bytes, 27, height - 1);
+
+        assertThat(BoundedImageLoader.webpSize(bytes, bytes.length)).containsExactly(width, height);
+    }
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @DisplayName("VP8L 헤더의 크기(14비트씩)를 읽는다")
+    @CsvSource(delimiter = '|', textBlock = """
+            1     | 1
+            1920  | 1080
+            16384 | 16384
+            """)
+    void readsVp8lSize(int width, int height) {
+        byte[] bytes = riff("VP8L");
+        bytes[20] = 0x2F;
+        int bits = (width - 1) | (height - 1) << 14;
+        for (int i = 0; i < 4; i++) {
+            bytes[21 + i] = (byte) (bits >>> (8 * i));
+        }
+
+        assertThat(BoundedImageLoader.webpSize(bytes, bytes.length)).containsExactly(width, height);
+    }
+
+    @ParameterizedTest(name = "{0}x{1}")
+    @DisplayName("VP8 헤더의 크기(14비트씩, 상위 2비트 배율 무시)를 읽는다")
+    @CsvSource(delimiter = '|', textBlock = """
+            1     | 1
+            1920  | 1080
+            16383 | 16383
+            """)
+    void readsVp8Size(int width, int height) {
+        byte[] bytes = vp8(width, height);
+
+        assertThat(BoundedImageLoader.webpSize(bytes, bytes.length)).containsExactly(width, height);
+
+        // 배율 비트가 있어도 크기는 같음
+        bytes[27] |= (byte) 0xC0;
+        bytes[29] |= (byte) 0x40;
+        assertThat(BoundedImageLoader.webpSize(bytes, bytes.length)).containsExactly(width, height);
+    }
+
+    @Test
+    @DisplayName("WebP 가 아니거나 헤더가 잘렸거나 시그니처가 틀리면 null")
+    void returnsNullForInvalidHeaders() {
+        byte[] vp8 = vp8(100, 100);
+        assertThat(BoundedImageLoader.webpSize(vp8, 29)).isNull();
+
+        // 실제 길이보다 뒤의 바이트는 보지 않음
+        byte[] padded = Arrays.copyOf(vp8, 64);
+        assertThat(BoundedImageLoader.webpSize(padded, 20)).isNull();
+
+        byte[] notWebp = Arrays.copyOf(vp8, vp8.length);
+        notWebp[8] = 'A';
+        assertThat(BoundedImageLoader.webpSize(notWebp, notWebp.length)).isNull();
+
+        byte[] badStartCode = Arrays.copyOf(vp8, vp8.length);
+        badStartCode[24] = 0x00;
+        assertThat(BoundedImageLoader.webpSize(badStartCode, badStartCode.length)).isNull();
+
+        byte[] badSignature = riff("VP8L");
+        badSignature[20] = 0x2E;
+        assertThat(BoundedImageLoader.webpSize(badSignature, badSignature.length)).isNull();
+
+        byte[] unknownChunk = riff("ALPH");
+        assertThat(BoundedImageLoader.webpSize(unknownChunk, unknownChunk.length)).isNull();
+
+        byte[] png = new byte[32];
+        System.arraycopy(new byte[]{(byte) 0x89, 'P', 'N', 'G'}, 0, png, 0, 4);
+        assertThat(BoundedImageLoader.webpSize(png, png.length)).isNull();
+    }
+
+    private static byte[] vp8(int width, int height) {
+        byte[] bytes = riff("VP8 ");
+        bytes[23] = (byte) 0x9D;
+        bytes[24] = 0x01;
+        bytes[25] = 0x2A;
+        bytes[26] = (byte) width;
+        bytes[27] = (byte) (width >>> 8);
+        bytes[28] = (byte) height;
+        bytes[29] = (byte) (height >>> 8);
+        return bytes;
+    }
+
+    // RIFF 헤더(12B) + 첫 청크 이름까지 채운 30바이트
+    private static byte[] riff(String chunk) {
+        byte[] bytes = new byte[30];
+        put(bytes, 0, "RIFF");
+        put(bytes, 8, "WEBP");
+        put(bytes, 12, chunk);
+        return bytes;
+    }
+
+    private static void put(byte[] bytes, int offset, String fourCc) {
+        System.arraycopy(fourCc.getBytes(StandardCharsets.US_ASCII), 0, bytes, offset, 4);
+    }
+
+    private static void putUInt24(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+    }
+}
@@ -0,0 +1,215 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 결과는 TreeSet 으로 같은 연산을 한 결과와 비교
+class CompressedBitmapTest {
+
+    // 컨테이너 하나의 범위 (하위 16비트)
+    private static final long CONTAINER = 1L << 16;
+    // 배열 컨테이너의 최대 원소 수
+    private static final int ARRAY_MAX_SIZE = 4096;
+
+    @Test
+    @DisplayName("배열과 비트맵 전환 경계(4096개)를 넘나들며 추가, 삭제해도 원소가 유지된다")
+    void addAndRemoveAcrossArrayThreshold() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // 배열 최대 크기 + 1 개를 넣어 비트맵으로 전환
+        for (long i = 0; i <= ARRAY_MAX_SIZE; i++) {
+            add(bitmap, expected, i * 7);
+        }
+        assertSame(bitmap, expected);
+
+        // 다시 배열로 돌아가는 경계 아래까지 삭제
+        for (long i = 0; i < 10; i++) {
+            remove(bitmap, expected, i * 7);
+        }
+        assertSame(bitmap, expected);
+
+        // 중복 추가, 없는 값 삭제는 무시
+        add(bitmap, expected, 70);
+        add(bitmap, expected, 70);
+        remove(bitmap, expected, 1);
+        assertSame(bitmap, expected);
+
+        // 경계를 다시 넘긴 뒤 모두 삭제하면 빈 비트맵
+        for (long i = 0; i < 20; i++) {
+            add(bitmap, expected, i * 7 + 3);
+        }
+        assertSame(bitmap, expected);
+        for (Long value : new ArrayList<>(expected)) {
+            remove(bitmap, expected, value);
+        }
+        assertThat(bitmap.isEmpty()).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("무작위 추가, 삭제 결과가 TreeSet 과 같다")
+    void randomAddRemoveMatchesTreeSet() {
+        Random random = new Random(42);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // 한 컨테이너에 몰아 배열/비트맵 전환이 여러 번 일어나도록 범위를 좁게 잡음
+        for (int i = 0; i < 30_000; i++) {
+            long value = random.nextInt(3 * 5000);
+            if (random.nextInt(3) == 0) {
+                remove(bitmap, expected, value);
+            } else {
+                add(bitmap, expected, value);
+            }
+        }
+        assertSame(bitmap, expected);
+    }
+
+    @ParameterizedTest(name = "{0} / {1}")
+    @DisplayName("배열, 비트맵 컨테이너를 섞어도 and, or, andNot 결과가 TreeSet 과 같다")
+    @CsvSource(delimiter = '|', textBlock = """
+            100  | 100
+            100  | 6000
+            6000 | 100
+            6000 | 6000
+            3000 | 3000
+            """)
+    void setOperationsMatchTreeSet(int leftSize, int rightSize) {
+        Random random = new Random(leftSize * 31L + rightSize);
+        CompressedBitmap left = new CompressedBitmap();
+        CompressedBitmap right = new CompressedBitmap();
+        TreeSet<Long> leftExpected = new TreeSet<>();
+        TreeSet<Long> rightExpected = new TreeSet<>();
+
+        // 두 컨테이너(0, 2)는 겹치고, 한쪽에만 있는 컨테이너(1, 3)도 둠
+        fill(random, left, leftExpected, leftSize, 0, 1, 2);
+        fill(random, right, rightExpected, rightSize, 0, 2, 3);
+
+        TreeSet<Long> and = new TreeSet<>(leftExpected);
+        and.retainAll(rightExpected);
+        TreeSet<Long> or = new TreeSet<>(leftExpected);
+        or.addAll(rightExpected);
+        TreeSet<Long> andNot = new TreeSet<>(leftExpected);
+        andNot.removeAll(rightExpected);
+
+        assertSame(left.and(right), and);
+        assertSame(left.or(right), or);
+        assertSame(left.andNot(right), andNot);
+
+        // 연산 결과는 새 비트맵이므로 원본은 그대로
+        assertSame(left, leftExpected);
+        assertSame(right, rightExpected);
+    }
+
+    @Test
+    @DisplayName("교집합이 비어 있는 컨테이너는 결과에 남지 않는다")
+    void emptyIntersectionLeavesNoContainer() {
+        CompressedBitmap left = new CompressedBitmap();
+        CompressedBitmap right = new CompressedBitmap();
+        left.add(1);
+        right.add(2);
+
+        assertThat(left.and(right).isEmpty()).isTrue();
+        assertThat(left.andNot(left).isEmpty()).isTrue();
+    }
+
+    @ParameterizedTest(name = "upperBound={0}, limit={1}")
+    @DisplayName("descendingBelow 는 컨테이너 경계에서도 upperBound 미만의 값을 큰 값부터 반환한다")
+    @CsvSource(delimiter = '|', textBlock = """
+                   | 10
+                   | 100000
+            0      | 10
+            1      | 10
+            65535  | 10
+            65536  | 10
+            65537  | 10
+            131072 | 5000
+            131073 | 3
+            196608 | 100000
+            200000 | 0
+            """)
+    void descendingBelowMatchesTreeSet(Long upperBound, int limit) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+
+        // 0번: 경계 양끝 값을 가진 배열 컨테이너, 1번: 비트맵 컨테이너, 2번: 비어 있음, 3번: 배열 컨테이너
+        add(bitmap, expected, 0);
+        add(bitmap, expected, 1);
+        add(bitmap, expected, CONTAINER - 1);
+        for (long i = 0; i < CONTAINER; i += 3) {
+            add(bitmap, expected, CONTAINER + i);
+        }
+        add(bitmap, expected, 2 * CONTAINER - 1);
+        add(bitmap, expected, 3 * CONTAINER);
+        add(bitmap, expected, 3 * CONTAINER + 5);
+
+        NavigableSet<Long> below = upperBound == null ? expected.descendingSet()
+                : expected.headSet(upperBound, false).descendingSet();
+        List<Long> expectedWindow = below.stream().limit(limit).toList();
+
+        assertThat(bitmap.descendingBelow(upperBound, limit)).containsExactlyElementsOf(expectedWindow);
+    }
+
+    @Test
+    @DisplayName("descendingBelow 로 구간을 이어 받으면 전체를 빠짐없이 내림차순으로 순회한다")
+    void descendingBelowPagesThroughAllValues() {
+        Random random = new Random(7);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Long> expected = new TreeSet<>();
+        fill(random, bitmap, expected, 6000, 0, 1, 5);
+        fill(random, bitmap, expected, 50, 3);
+
+        List<Long> collected = new ArrayList<>();
+        Long upperBound = null;
+        while (true) {
+            List<Long> window = bitmap.descendingBelow(upperBound, 777);
+            collected.addAll(window);
+            if (window.size() < 777) {
+                break;
+            }
+            upperBound = window.get(window.size() - 1);
+        }
+
+        assertThat(collected).containsExactlyElementsOf(expected.descendingSet());
+    }
+
+    private static void fill(Random random, CompressedBitmap bitmap, TreeSet<Long> expected, int count,
+                             int... containerIndexes) {
+        for (int containerIndex : containerIndexes) {
+            for (int i = 0; i < count; i++) {
+                add(bitmap, expected, containerIndex * CONTAINER + random.nextInt((int) CONTAINER));
+            }
+        }
+    }
+
+    private static void add(CompressedBitmap bitmap, TreeSet<Long> expected, long value) {
+        bitmap.add(value);
+        expected.add(value);
+    }
+
+    private static void remove(CompressedBitmap bitmap, TreeSet<Long> expected, long value) {
+        bitmap.remove(value);
+        expected.remove(value);
+    }
+
+    private static void assertSame(CompressedBitmap bitmap, TreeSet<Long> expected) {
+        assertThat(bitmap.cardinality()).isEqualTo((long) expected.size());
+        assertThat(bitmap.isEmpty()).isEqualTo(expected.isEmpty());
+        assertThat(bitmap.descendingBelow(null, Integer.MAX_VALUE)).containsExactlyElementsOf(expected.descendingSet());
+        for (Long value : expected) {
+            assertThat(bitmap.contains(value)).isTrue();
+        }
+        assertThat(bitmap.contains(expected.isEmpty() ? 0 : expected.last() + 1)).isFalse();
+    }
+}
@@ -0,0 +1,146 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HtmlHeadFetcherTest {
+
+    private static final String BASE_URI = "https://example.com/post";
+
+    private static final String HEAD = "<html><head><title>제목</title>"
+            + "<meta property=\"og:title\" content=\"head\">";
+    // head 뒤에 읽으면 안 되는 내용
+    private static final String BODY = "<body><meta property=\"og:title\" content=\"body\"><p>본문</p></body></html>";
+
+    @ParameterizedTest(name = "청크 크기 {0}")
+    @DisplayName("</head> 가 청크 경계에 걸쳐 있어도 찾고, 그 뒤는 읽지 않는다")
+    @ValueSource(ints = {1, 2, 3, 4, 5, 6, 7, 11})
+    void findsHeadEndSplitAcrossChunks(int chunkSize) throws IOException {
+        byte[] page = (HEAD + "</head>" + BODY + " ".repeat(10_000)).getBytes(StandardCharsets.UTF_8);
+        int headEnd = (HEAD).getBytes(StandardCharsets.UTF_8).length;
+
+        // 시작 위치를 한 바이트씩 밀어 </head> 가 모든 위치에서 잘리도록 함
+        for (int offset = 0; offset < chunkSize; offset++) {
+            ChunkedInputStream in = new ChunkedInputStream(page, offset, chunkSize);
+
+            Document doc = HtmlHeadFetcher.parseHead(in, "text/html; charset=UTF-8", BASE_URI);
+
+            assertThat(doc.title()).isEqualTo("제목");
+            assertThat(doc.select("meta[property=og:title]").attr("content")).isEqualTo("head");
+            assertThat(doc.select("meta[property=og:title]")).hasSize(1);
+            // </head> 를 포함한 청크까지만 읽음
+            assertThat(in.consumed()).isLessThanOrEqualTo(headEnd + "</head".length() + chunkSize);
+        }
+    }
+
+    @Test
+    @DisplayName("</HEAD> 는 대소문자를 구분하지 않는다")
+    void findsUpperCaseHeadEnd() throws IOException {
+        byte[] page = (HEAD + "</HEAD>" + BODY).getBytes(StandardCharsets.UTF_8);
+
+        Document doc = HtmlHeadFetcher.parseHead(new ChunkedInputStream(page, 0, 3), null, BASE_URI);
+
+        assertThat(doc.select("meta[property=og:title]")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("</head> 가 없으면 끝까지 읽어 파싱한다")
+    void parsesWholePageWithoutHeadEnd() throws IOException {
+        byte[] page = (HEAD + BODY).getBytes(StandardCharsets.UTF_8);
+        ChunkedInputStream in = new ChunkedInputStream(page, 0, 100);
+
+        Document doc = HtmlHeadFetcher.parseHead(in, null, BASE_URI);
+
+        assertThat(doc.title()).isEqualTo("제목");
+        assertThat(in.consumed()).isEqualTo(page.length);
+    }
+
+    @ParameterizedTest(name = "Content-Type={0}, BOM={1}, meta={2}")
+    @DisplayName("charset 은 응답 헤더, BOM, meta 태그 순으로 확인하고 없으면 UTF-8")
+    @CsvSource(delimiter = '|', textBlock = """
+            text/html; charset=EUC-KR  | EFBBBF | ISO-8859-1 | EUC-KR
+            text/html; charset="utf-8" |        | EUC-KR     | UTF-8
+            text/html; charset=nope    | EFBBBF | EUC-KR     | UTF-8
+            text/html                  | FEFF   | EUC-KR     | UTF-16BE
+            text/html                  | FFFE   | EUC-KR     | UTF-16LE
+            text/html; charset=nope    |        | EUC-KR     | EUC-KR
+                                       |        | EUC-KR     | EUC-KR
+                                       |        | nope       | UTF-8
+                                       |        |            | UTF-8
+            """)
+    void detectsCharsetInOrder(String contentType, String bom, String metaCharset, String expected) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (bom != null) {
+            for (int i = 0; i < bom.length(); i += 2) {
+                out.write(Integer.parseInt(bom.substring(i, i + 2), 16));
+            }
+        }
+        String meta = metaCharset != null ? "<meta charset=\"" + metaCharset + "\">" : "";
+        out.writeBytes(("<html><head>" + meta + "<title>t</title>").getBytes(StandardCharsets.US_ASCII));
+        byte[] bytes = out.toByteArray();
+
+        Charset charset = HtmlHeadFetcher.detectCharset(contentType, bytes, bytes.length);
+
+        assertThat(charset).isEqualTo(Charset.forName(expected));
+    }
+
+    @Test
+    @DisplayName("http-equiv 형식의 meta charset 으로 EUC-KR 페이지를 읽는다")
+    void decodesWithHttpEquivMetaCharset() throws IOException {
+        String html = "<html><head><meta http-equiv=\"Content-Type\" content=\"text/html; charset=euc-kr\">"
+                + "<title>한글 제목</title></head><body></body></html>";
+        byte[] page = html.getBytes(Charset.forName("EUC-KR"));
+
+        Document doc = HtmlHeadFetcher.parseHead(new ChunkedInputStream(page, 0, 16), "text/html", BASE_URI);
+
+        assertThat(doc.title()).isEqualTo("한글 제목");
+    }
+
+    // 첫 읽기는 firstChunk 바이트, 이후는 chunkSize 바이트씩만 돌려주는 스트림
+    private static class ChunkedInputStream extends InputStream {
+        private final byte[] data;
+        private final int chunkSize;
+        private int firstChunk;
+        private int position;
+
+        ChunkedInputStream(byte[] data, int firstChunk, int chunkSize) {
+            this.data = data;
+            this.firstChunk = firstChunk;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read() {
+            return position < data.length ? data[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= data.length) {
+                return -1;
+            }
+            int size = firstChunk > 0 ? firstChunk : chunkSize;
+            firstChunk = 0;
+            int count = Math.min(Math.min(size, len), data.length - position);
+            System.arraycopy(data, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        int consumed() {
+            return position;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.sonkim.bookmarking.common.util.OGStrategy;
+
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkOGDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OgStrategyRouterTest {
+
+    // 실제 전략과 같은 호스트, 같은 순서(@Order)의 가짜 전략
+    private static final Map<String, OgExtractorStrategy> STRATEGIES = Map.of(
+            "naverBlog", new StubStrategy(Set.of("blog.naver.com")),
+            "youtube", new StubStrategy(Set.of("youtube.com", "youtu.be")),
+            "instagram", new StubStrategy(Set.of("instagram.com")),
+            "coupang", new StubStrategy(Set.of("coupang.com")),
+            "naverMap", new StubStrategy(Set.of("map.naver.com")),
+            "twitter", new StubStrategy(Set.of("twitter.com", "x.com")),
+            "default", new StubStrategy(Set.of()));
+
+    private final OgStrategyRouter router = new OgStrategyRouter(List.of(
+            STRATEGIES.get("naverBlog"),
+            STRATEGIES.get("youtube"),
+            STRATEGIES.get("instagram"),
+            STRATEGIES.get("coupang"),
+            STRATEGIES.get("naverMap"),
+            STRATEGIES.get("twitter"),
+            STRATEGIES.get("default")));
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("URL 호스트와 상위 도메인이 정확히 일치하는 전략을 선택한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://youtube.com/watch?v=abc           | youtube
+            https://www.youtube.com/watch?v=abc       | youtube
+            https://m.youtube.com/watch?v=abc         | youtube
+            https://music.youtube.com/watch?v=abc     | youtube
+            https://youtu.be/abc                      | youtube
+            https://WWW.YouTube.COM/watch?v=abc       | youtube
+            https://youtube.com./watch?v=abc          | youtube
+            https://youtube.com:443/watch?v=abc       | youtube
+            https://blog.naver.com/user/1             | naverBlog
+            https://m.blog.naver.com/user/1           | naverBlog
+            https://map.naver.com/p/entry/place/1     | naverMap
+            https://m.map.naver.com/p/entry/place/1   | naverMap
+            https://x.com/user/status/1               | twitter
+            https://mobile.twitter.com/user/status/1  | twitter
+            https://www.coupang.com/vp/products/1     | coupang
+            https://www.instagram.com/p/abc           | instagram
+            """)
+    void routesBySuffix(String url, String expected) {
+        assertThat(router.route(url)).isSameAs(STRATEGIES.get(expected));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("이름이 비슷하거나 경로, 사용자 정보에만 도메인이 들어간 URL은 기본 전략을 사용한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://notyoutube.com/watch?v=abc        | default
+            https://youtube.com.evil.com/watch?v=abc  | default
+            https://evilyoutu.be/abc                  | default
+            https://youtube.com@evil.com/watch?v=abc  | default
+            https://evil.com/?next=https://youtube.com | default
+            https://evil.com/youtube.com/watch?v=abc  | default
+            https://naver.com                         | default
+            https://news.naver.com/article/1          | default
+            https://box.com/file                      | default
+            https://twitter.co/user                   | default
+            not a url                                 | default
+            ''                                        | default
+            """)
+    void routesLookAlikeHostsToDefault(String url, String expected) {
+        assertThat(router.route(url)).isSameAs(STRATEGIES.get(expected));
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("한글, 전각 문자 호스트는 IDN 으로 바꿔 비교한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://ｙｏｕｔｕｂｅ.com/watch?v=abc     | youtube
+            https://youtube。com/watch?v=abc          | youtube
+            http://예시.youtube.com/watch?v=abc        | youtube
+            https://유튜브.com/watch?v=abc             | default
+            https://xn--ov3b19n9rj.com/watch?v=abc    | default
+            """)
+    void routesInternationalizedHosts(String url, String expected) {
+        assertThat(router.route(url)).isSameAs(STRATEGIES.get(expected));
+    }
+
+    private record StubStrategy(Set<String> supportedHosts) implements OgExtractorStrategy {
+
+        @Override
+        public BookmarkOGDto extract(String url) {
+            return new BookmarkOGDto();
+        }
+    }
+}
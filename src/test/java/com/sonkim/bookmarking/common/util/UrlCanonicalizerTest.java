@@ -0,0 +1,52 @@
+package com.sonkim.bookmarking.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlCanonicalizerTest {
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("같은 페이지를 가리키는 URL은 같은 키로 정규화한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://WWW.Example.COM/path/                         | https://example.com/path
+            HTTPS://m.example.com/path                            | https://example.com/path
+            '  https://example.com/path  '                        | https://example.com/path
+            http://example.com:80/path                            | http://example.com/path
+            https://example.com:443/path                          | https://example.com/path
+            https://example.com:8443/path                         | https://example.com:8443/path
+            https://example.com/path#section                      | https://example.com/path
+            https://example.com/path?b=2&a=1                      | https://example.com/path?a=1&b=2
+            https://example.com/path?utm_source=x&id=3&fbclid=y   | https://example.com/path?id=3
+            https://example.com/Path                              | https://example.com/Path
+            """)
+    void canonicalizesEquivalentUrls(String url, String expected) {
+        assertThat(UrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("유튜브 동영상 URL은 watch?v= 형태로 통일한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://www.youtube.com/watch?v=abc123&feature=share  | https://youtube.com/watch?v=abc123
+            https://m.youtube.com/watch?v=abc123                  | https://youtube.com/watch?v=abc123
+            https://youtu.be/abc123?si=xyz                        | https://youtube.com/watch?v=abc123
+            https://www.youtube.com/shorts/abc123                 | https://youtube.com/watch?v=abc123
+            """)
+    void canonicalizesYoutubeUrls(String url, String expected) {
+        assertThat(UrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "{0} -> {1}")
+    @DisplayName("비슷한 호스트나 정규화할 수 없는 URL은 다른 키로 유지한다")
+    @CsvSource(delimiter = '|', textBlock = """
+            https://notyoutube.com/watch?v=abc123                 | https://notyoutube.com/watch?v=abc123
+            https://mobile.example.com/                           | https://mobile.example.com
+            https://wwwexample.com/                               | https://wwwexample.com
+            not a url                                             | not a url
+            """)
+    void keepsDistinctUrls(String url, String expected) {
+        assertThat(UrlCanonicalizer.canonicalize(url)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sonkim.bookmarking.domain.bookmark.enums;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantTest {
+
+    @ParameterizedTest(name = "{0} {1} -> {2}")
+    @DisplayName("너비별 파일 키는 확장자를 떼고 _w{너비}.webp 를 붙이며, DETAIL 은 기본 키를 그대로 쓴다")
+    @CsvSource(delimiter = '|', textBlock = """
+            THUMBNAIL | abc.webp | abc_w160.webp
+            CARD      | abc.webp | abc_w320.webp
+            DETAIL    | abc.webp | abc.webp
+            THUMBNAIL | abc      | abc_w160.webp
+            CARD      | a.b.jpg  | a.b_w320.webp
+            DETAIL    | a.b.jpg  | a.b.jpg
+            """)
+    void buildsVariantKey(ImageVariant variant, String baseKey, String expected) {
+        assertThat(variant.keyFor(baseKey)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("원본 내용 해시 키만 공유 키로 판단한다")
+    void detectsContentHashKey() {
+        String hash = "0123456789abcdef".repeat(4);
+
+        assertThat(ImageVariant.isContentHashKey(hash + ".webp")).isTrue();
+        assertThat(ImageVariant.isContentHashKey(hash + ".png")).isFalse();
+        assertThat(ImageVariant.isContentHashKey(hash.toUpperCase() + ".webp")).isFalse();
+        assertThat(ImageVariant.isContentHashKey(hash.substring(1) + ".webp")).isFalse();
+        assertThat(ImageVariant.isContentHashKey("1f0e2d3c-uuid.webp")).isFalse();
+        assertThat(ImageVariant.isContentHashKey(null)).isFalse();
+    }
+}
@@ -0,0 +1,333 @@
+package com.sonkim.bookmarking.domain.team.service;
+
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkRequestDto;
+import com.sonkim.bookmarking.domain.bookmark.dto.BookmarkUpdateDto;
+import com.sonkim.bookmarking.domain.bookmark.entity.Bookmark;
+import com.sonkim.bookmarking.domain.bookmark.entity.BookmarkTag;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkRepository;
+import com.sonkim.bookmarking.domain.bookmark.repository.BookmarkTagRepository;
+import com.sonkim.bookmarking.domain.bookmark.service.BookmarkService;
+import com.sonkim.bookmarking.domain.category.dto.CategoryDto;
+import com.sonkim.bookmarking.domain.category.service.CategoryService;
+import com.sonkim.bookmarking.domain.comment.dto.CommentDto;
+import com.sonkim.bookmarking.domain.comment.entity.Comment;
+import com.sonkim.bookmarking.domain.comment.repository.CommentRepository;
+import com.sonkim.bookmarking.domain.comment.service.CommentService;
+import com.sonkim.bookmarking.domain.profile.entity.Profile;
+import com.sonkim.bookmarking.domain.tag.dto.TagDto;
+import com.sonkim.bookmarking.domain.tag.entity.Tag;
+import com.sonkim.bookmarking.domain.tag.repository.TagRepository;
+import com.sonkim.bookmarking.domain.tag.service.TagService;
+import com.sonkim.bookmarking.domain.team.entity.Team;
+import com.sonkim.bookmarking.domain.team.entity.TeamMember;
+import com.sonkim.bookmarking.domain.team.enums.Permission;
+import com.sonkim.bookmarking.domain.team.repository.TeamMemberRepository;
+import com.sonkim.bookmarking.domain.team.repository.TeamRepository;
+import com.sonkim.bookmarking.domain.user.entity.User;
+import com.sonkim.bookmarking.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 요청 하나에서 실행되는 쿼리 수 검증 (그룹 상태, 권한은 요청마다 한 번만 조회)
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class TeamAccessContextQueryCountTest {
+
+    @Autowired
+    private TeamAccessContext teamAccessContext;
+
+    @Autowired
+    private TeamStatusRegistry teamStatusRegistry;
+
+    @Autowired
+    private TeamPermissionCache permissionCache;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private BookmarkService bookmarkService;
+
+    @Autowired
+    private TagService tagService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamMemberRepository teamMemberRepository;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    @Autowired
+    private BookmarkTagRepository bookmarkTagRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 12);
+        User user = userRepository.save(User.builder()
+                .username("qc_" + suffix + "@test.com")
+                .profile(Profile.builder().nickname("qc_" + suffix).build())
+                .build());
+        Team team = teamRepository.save(Team.builder()
+                .owner(user)
+                .name("qc_" + suffix)
+                .build());
+        teamMemberRepository.save(TeamMember.builder()
+                .user(user)
+                .team(team)
+                .permission(Permission.ADMIN)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        userId = user.getId();
+        teamId = team.getId();
+
+        // 이전 실행에서 남은 캐시 없이 DB 조회부터 측정
+        teamStatusRegistry.evict(teamId);
+        permissionCache.evict(userId, teamId);
+
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+
+        // 테스트 데이터는 롤백하고, 커밋 이후에만 지워지는 Redis 캐시는 트랜잭션 밖에서 삭제
+        TestTransaction.end();
+        teamStatusRegistry.evict(teamId);
+        permissionCache.evict(userId, teamId);
+    }
+
+    @Test
+    @DisplayName("한 요청에서 여러 번 검사해도 그룹 상태와 권한은 한 번씩만 조회한다")
+    void resolvesTeamAccessOncePerRequest() {
+        for (int i = 0; i < 3; i++) {
+            teamAccessContext.validateActive(teamId);
+            teamAccessContext.validateEditor(userId, teamId);
+            teamAccessContext.validateAdmin(userId, teamId);
+            teamAccessContext.getTeamReference(teamId);
+        }
+
+        // 그룹 상태 1 + 멤버 권한 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 생성 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void createCategoryQueryCount() {
+        CategoryDto.CategoryRequestDto request = new CategoryDto.CategoryRequestDto();
+        request.setName("qc");
+
+        categoryService.createCategory(userId, teamId, request);
+        entityManager.flush();
+
+        // 그룹 상태 1 + 멤버 권한 1 + 이름 중복 확인 1 + 개수 1 + 저장 1 + 목록 1 + 그룹 북마크 수 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(7);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    // 태그, 북마크 태그 ID 는 시퀀스 테이블로 발급하므로 ID 하나에 조회 1 + 갱신 1
+    @Test
+    @DisplayName("북마크 생성 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void createBookmarkQueryCount() {
+        saveTag("qc");
+        startMeasuring();
+
+        BookmarkRequestDto request = new BookmarkRequestDto();
+        request.setUrl("https://example.com");
+        request.setTitle("qc");
+        request.setTagNames(List.of("qc"));
+
+        bookmarkService.createBookmark(userId, teamId, request);
+        entityManager.flush();
+
+        // 그룹 상태 1 + 멤버 권한 1 + 북마크 저장 1 + 그룹 북마크 수 1 + 태그 조회 1
+        // + 북마크 태그 ID 2 + 북마크 태그 저장 1 (검색 색인은 JdbcTemplate 으로 저장하므로 제외)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(8);
+        assertNoTeamOrUserLoad();
+    }
+
+    @Test
+    @DisplayName("북마크 수정 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void updateBookmarkQueryCount() {
+        Bookmark bookmark = saveBookmark(saveTag("old"));
+        saveTag("new");
+        startMeasuring();
+
+        BookmarkUpdateDto request = new BookmarkUpdateDto();
+        request.setTitle("qc_updated");
+        request.setTagNames(List.of("new"));
+
+        bookmarkService.updateBookmark(userId, bookmark.getId(), request);
+        entityManager.flush();
+
+        // 북마크(태그 포함) 1 + 그룹 상태 1 + 기존 북마크 태그 1 + 멤버 권한 1 + 태그 조회 1
+        // + 북마크 태그 ID 2 + 북마크 태그 저장 1 + 북마크 수정 1 + 북마크 태그 삭제 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(10);
+        assertNoTeamOrUserLoad();
+    }
+
+    @Test
+    @DisplayName("북마크 삭제 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void deleteBookmarkQueryCount() {
+        Bookmark bookmark = saveBookmark(saveTag("qc"));
+        startMeasuring();
+
+        bookmarkService.deleteBookmark(userId, bookmark.getId());
+        entityManager.flush();
+
+        // 북마크(태그 포함) 1 + 그룹 상태 1 + 좋아요 목록(연쇄 삭제) 1 + 그룹 북마크 수 1
+        // + 북마크 태그 삭제 1 + 북마크 삭제 1 (작성자이므로 권한 조회 없음, 이미지 없으므로 공유 확인 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertNoTeamOrUserLoad();
+    }
+
+    @Test
+    @DisplayName("태그 생성 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void createTagQueryCount() {
+        TagDto.TagRequestDto request = new TagDto.TagRequestDto();
+        request.setName("qc");
+
+        tagService.createTag(userId, teamId, request);
+        entityManager.flush();
+
+        // 그룹 상태 1 + 멤버 권한 1 + 이름 중복 확인 1 + 태그 ID 2 + 저장 1
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+        assertNoTeamOrUserLoad();
+    }
+
+    @Test
+    @DisplayName("태그 삭제 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void deleteTagQueryCount() {
+        Tag tag = saveTag("qc");
+        startMeasuring();
+
+        tagService.deleteTag(userId, teamId, tag.getId());
+        entityManager.flush();
+
+        // 그룹 상태 1 + 태그 1 + 멤버 권한 1 + 삭제 1 (deleteById 의 재조회는 영속성 컨텍스트에서 처리)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertNoTeamOrUserLoad();
+    }
+
+    @Test
+    @DisplayName("댓글 생성 시 그룹 엔티티를 조회하지 않는다")
+    void createCommentQueryCount() {
+        Bookmark bookmark = saveBookmark();
+        startMeasuring();
+
+        CommentDto.CreateRequestDto request = new CommentDto.CreateRequestDto();
+        request.setContent("qc");
+
+        commentService.createComment(userId, bookmark.getId(), request);
+        entityManager.flush();
+
+        // 유저 1 + 북마크 1 + 저장 1 + 작성자 프로필 1 (응답에 닉네임이 필요하므로 유저는 엔티티로 조회)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(loadCount(Team.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 시 그룹, 유저 엔티티를 조회하지 않는다")
+    void deleteCommentQueryCount() {
+        Bookmark bookmark = saveBookmark();
+        Comment comment = commentRepository.save(Comment.builder()
+                .user(entityManager.getReference(User.class, userId))
+                .bookmark(bookmark)
+                .content("qc")
+                .build());
+        startMeasuring();
+
+        commentService.deleteComment(userId, comment.getId());
+        entityManager.flush();
+
+        // 댓글 1 + 북마크(그룹 ID 확인) 1 + 답글 목록(연쇄 삭제) 1 + 삭제 1 (작성자이므로 권한 조회 없음)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertNoTeamOrUserLoad();
+    }
+
+    private Tag saveTag(String name) {
+        return tagRepository.save(Tag.builder()
+                .name(name)
+                .team(entityManager.getReference(Team.class, teamId))
+                .build());
+    }
+
+    private Bookmark saveBookmark(Tag... tags) {
+        Bookmark bookmark = bookmarkRepository.save(Bookmark.builder()
+                .user(entityManager.getReference(User.class, userId))
+                .team(entityManager.getReference(Team.class, teamId))
+                .url("https://example.com")
+                .title("qc")
+                .build());
+        for (Tag tag : tags) {
+            bookmarkTagRepository.save(BookmarkTag.builder().bookmark(bookmark).tag(tag).build());
+        }
+        return bookmark;
+    }
+
+    // 준비 데이터는 DB 에 반영하고 영속성 컨텍스트를 비운 뒤부터 측정
+    private void startMeasuring() {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    private void assertNoTeamOrUserLoad() {
+        assertThat(loadCount(Team.class)).isZero();
+        assertThat(loadCount(User.class)).isZero();
+    }
+
+    private long loadCount(Class<?> entityClass) {
+        return statistics.getEntityStatistics(entityClass.getName()).getLoadCount();
+    }
+}
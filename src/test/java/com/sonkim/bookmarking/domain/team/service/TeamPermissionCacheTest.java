@@ -0,0 +1,92 @@
+package com.sonkim.bookmarking.domain.team.service;
+
+import com.sonkim.bookmarking.domain.team.enums.Permission;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class TeamPermissionCacheTest {
+
+    @Autowired
+    private TeamPermissionCache permissionCache;
+
+    private Long userId;
+    private Long teamId;
+
+    @BeforeEach
+    void setUp() {
+        // 실제 데이터와 겹치지 않는 음수 ID 사용
+        userId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+        teamId = -ThreadLocalRandom.current().nextLong(1, Long.MAX_VALUE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        permissionCache.evict(userId, teamId);
+    }
+
+    @Test
+    @DisplayName("조회 도중 권한이 바뀌면 이전 권한을 캐시하지 않는다")
+    void evictDuringLoadIsNotOverwritten() {
+        // DB 에서 ADMIN 을 읽은 직후, 저장하기 전에 강등이 커밋된 상황
+        Permission loaded = permissionCache.get(userId, teamId, () -> {
+            permissionCache.evict(userId, teamId);
+            return Permission.ADMIN;
+        });
+        assertThat(loaded).isEqualTo(Permission.ADMIN);
+
+        AtomicInteger loadCount = new AtomicInteger();
+        Permission next = permissionCache.get(userId, teamId, () -> {
+            loadCount.incrementAndGet();
+            return Permission.VIEWER;
+        });
+
+        assertThat(next).isEqualTo(Permission.VIEWER);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("권한 변경 이후에는 다시 조회한다")
+    void reloadsAfterEvict() {
+        permissionCache.get(userId, teamId, () -> Permission.ADMIN);
+
+        AtomicInteger loadCount = new AtomicInteger();
+        Permission cached = permissionCache.get(userId, teamId, () -> {
+            loadCount.incrementAndGet();
+            return Permission.VIEWER;
+        });
+        assertThat(cached).isEqualTo(Permission.ADMIN);
+        assertThat(loadCount).hasValue(0);
+
+        permissionCache.evict(userId, teamId);
+
+        Permission reloaded = permissionCache.get(userId, teamId, () -> {
+            loadCount.incrementAndGet();
+            return Permission.VIEWER;
+        });
+        assertThat(reloaded).isEqualTo(Permission.VIEWER);
+        assertThat(loadCount).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 조회한 권한을 캐시한다")
+    void cachesLoadedPermission() {
+        AtomicInteger loadCount = new AtomicInteger();
+        for (int i = 0; i < 3; i++) {
+            permissionCache.get(userId, teamId, () -> {
+                loadCount.incrementAndGet();
+                return Permission.EDITOR;
+            });
+        }
+        assertThat(loadCount).hasValue(1);
+    }
+}